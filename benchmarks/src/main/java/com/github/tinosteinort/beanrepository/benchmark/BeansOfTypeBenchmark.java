@@ -0,0 +1,72 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BeanRepository#getBeansOfType(Class)}, depending on the Number of registered Beans, which are
+ *  provided by {@link GeneratedBeans}. The Result of a Type with only {@code singleton} and {@code instance} Beans
+ *  is cached, which is measured by {@link #fewBeans()}. A Type with a {@code prototype} Bean is resolved for every
+ *  Call: {@link #fewBeansWithPrototype()} resolves a few Beans, {@link #allBeans()} resolves all Beans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeansOfTypeBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int beans;
+
+    private BeanRepository repository;
+
+    @Setup public void setup() {
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("beans")
+                .singleton(FirstListener.class, FirstListener::new)
+                .singleton(SecondListener.class, SecondListener::new)
+                .singleton(FirstHandler.class, FirstHandler::new)
+                .prototype(SecondHandler.class, SecondHandler::new);
+        for (int i = 0; i < beans; i++) {
+            builder.instance(GeneratedBeans.bean(i));
+        }
+        repository = builder.build();
+    }
+
+    @Benchmark public Object allBeans() {
+        return repository.getBeansOfType(Object.class);
+    }
+
+    @Benchmark public Object fewBeans() {
+        return repository.getBeansOfType(Listener.class);
+    }
+
+    @Benchmark public Object fewBeansWithPrototype() {
+        return repository.getBeansOfType(Handler.class);
+    }
+
+    public interface Listener { }
+
+    public interface Handler { }
+
+    public static class FirstListener implements Listener { }
+
+    public static class SecondListener implements Listener { }
+
+    public static class FirstHandler implements Handler { }
+
+    public static class SecondHandler implements Handler { }
+}
@@ -0,0 +1,67 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures {@link BeanRepository.BeanRepositoryBuilder#build()} of a Repository with {@code singleton} Beans,
+ *  depending on the Number of Beans, which are provided by {@link GeneratedBeans}. With lazy {@code singleton}
+ *  Beans, no Bean is created by the Build. Beans which are registered with a {@link Supplier} have declared
+ *  Dependencies, and need no dry run. Beans which are registered with a {@link Function} are created in the dry
+ *  run to detect their Dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int beans;
+
+    @Param({ "false", "true" })
+    public boolean lazy;
+
+    @Param({ "false", "true" })
+    public boolean dryRun;
+
+    private Class<Object>[] beanClasses;
+
+    @Setup public void setup() {
+        beanClasses = new Class[beans];
+        for (int i = 0; i < beans; i++) {
+            beanClasses[i] = (Class<Object>) GeneratedBeans.beanClass(i);
+        }
+    }
+
+    @Benchmark public Object build() {
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("build")
+                .enableLazySingletonBeans(lazy);
+        for (int i = 0; i < beans; i++) {
+            final int index = i;
+            if (dryRun) {
+                builder.singleton(beanClasses[i], accessor -> GeneratedBeans.bean(index));
+            }
+            else {
+                builder.singleton(beanClasses[i], () -> GeneratedBeans.bean(index));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Build of a child Repository, depending on the Number of Beans of the parent Repository. A child
+ *  which only adds {@code instance} Beans shares the Tables of its parent, every other child copies them.
+ *  The Beans of the parent are provided by {@link GeneratedBeans}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChildRepositoryBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int parentBeans;
+
+    private BeanRepository parent;
+
+    @Setup public void setup() {
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("parent");
+        for (int i = 0; i < parentBeans; i++) {
+            builder.instance(GeneratedBeans.bean(i));
+        }
+        parent = builder.build();
+    }
+
+    @Benchmark public Object childWithInstances() {
+        return new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(new RequestContext())
+                .instance(new RequestUser())
+                .build();
+    }
+
+    @Benchmark public Object childWithSingleton() {
+        return new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(new RequestContext())
+                .singleton(RequestUser.class, RequestUser::new)
+                .build();
+    }
+
+    public static class RequestContext { }
+
+    public static class RequestUser { }
+}
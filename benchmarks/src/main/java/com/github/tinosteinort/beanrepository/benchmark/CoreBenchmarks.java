@@ -0,0 +1,47 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the Benchmarks of the Resolution Paths of the {@code BeanRepository}, and reports the Throughput and the
+ *  Allocation per Operation ({@code gc.alloc.rate.norm} of the GC Profiler) of every Benchmark. The Arguments are
+ *  passed as additional Regular Expressions for the Benchmarks to run, e.g. {@code ResolutionBenchmark}. Without
+ *  Arguments, all Benchmarks of the Resolution Paths are run.
+ */
+public final class CoreBenchmarks {
+
+    private static final Class<?>[] BENCHMARKS = {
+            LookupBenchmark.class, ResolutionBenchmark.class, PrototypeBenchmark.class, BeansOfTypeBenchmark.class,
+            BuildBenchmark.class, ChildRepositoryBenchmark.class
+    };
+
+    private CoreBenchmarks() {
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final OptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            for (Class<?> benchmark : BENCHMARKS) {
+                options.include(benchmark.getName());
+            }
+        }
+        else {
+            for (String benchmark : args) {
+                options.include(benchmark);
+            }
+        }
+        final Options throughputAndAllocation = options
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(throughputAndAllocation).run();
+    }
+}
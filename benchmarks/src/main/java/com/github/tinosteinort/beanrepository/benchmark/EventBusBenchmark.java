@@ -0,0 +1,122 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import com.github.tinosteinort.beanrepository.application.event.AbstractApplicationEventListener;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEvent;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBus;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBusConfigurator;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBusDelegate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ApplicationEventBus#fireEvent(ApplicationEvent)}, depending on the Number of Listeners of the
+ *  Event, and the Number of Threads which publish concurrently. The Event is published either through the
+ *  {@link ApplicationEventBusDelegate}, which is registered as {@link ApplicationEventBus} and looks up the Bus on
+ *  every Call, or directly to the Bus behind it. The Listeners do nothing, so the Score is the Cost of the
+ *  Dispatch: the Lookup of the Listener List and the Call of every Listener. The same Event Instance is published
+ *  every Time, so the measured Allocation is the Allocation of the Bus alone.
+ * <p>
+ * The Throughput and the Distribution of the Latency are reported. The {@link #main(String[])} Method runs these
+ *  Benchmarks and the {@link EventBusRegistrationBenchmark} with the GC Profiler, which reports the Allocation per
+ *  published Event ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private static final String DELEGATE = "delegate";
+
+    @Param({ "0", "1", "10", "100" })
+    public int listeners;
+
+    @Param({ DELEGATE, "bus" })
+    public String via;
+
+    private final BenchmarkEvent event = new BenchmarkEvent();
+
+    private ApplicationEventBus eventBus;
+
+    @Setup public void setup() {
+        final BeanRepository repository = eventBusRepository();
+        eventBus = DELEGATE.equals(via) ? repository.getBean(ApplicationEventBus.class) : busBehindDelegate(repository);
+        for (int i = 0; i < listeners; i++) {
+            eventBus.register(new BenchmarkListener());
+        }
+    }
+
+    @Benchmark public void publish() {
+        eventBus.fireEvent(event);
+    }
+
+    @Benchmark @Threads(4) public void publish4Threads() {
+        eventBus.fireEvent(event);
+    }
+
+    @Benchmark @Threads(8) public void publish8Threads() {
+        eventBus.fireEvent(event);
+    }
+
+    static BeanRepository eventBusRepository() {
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("events");
+        new ApplicationEventBusConfigurator().configure(builder);
+        return builder.build();
+    }
+
+    /**
+     * The Implementation of the Bus is not public, but it is registered as a Bean of the Type
+     *  {@link ApplicationEventBus}, besides the {@link ApplicationEventBusDelegate}.
+     */
+    static ApplicationEventBus busBehindDelegate(final BeanRepository repository) {
+        for (ApplicationEventBus bus : repository.getBeansOfType(ApplicationEventBus.class)) {
+            if (!(bus instanceof ApplicationEventBusDelegate)) {
+                return bus;
+            }
+        }
+        throw new IllegalStateException("No ApplicationEventBus behind the ApplicationEventBusDelegate");
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(EventBusBenchmark.class.getName())
+                .include(EventBusRegistrationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    public static class BenchmarkEvent implements ApplicationEvent {
+
+    }
+
+    public static class BenchmarkListener extends AbstractApplicationEventListener<BenchmarkEvent> {
+
+        public BenchmarkListener() {
+            super(BenchmarkEvent.class);
+        }
+
+        @Override public void onEvent(final BenchmarkEvent event) {
+        }
+    }
+}
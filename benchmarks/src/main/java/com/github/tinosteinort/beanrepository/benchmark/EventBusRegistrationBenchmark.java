@@ -0,0 +1,113 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.application.event.AbstractApplicationEventListener;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEvent;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBus;
+import com.github.tinosteinort.beanrepository.benchmark.EventBusBenchmark.BenchmarkEvent;
+import com.github.tinosteinort.beanrepository.benchmark.EventBusBenchmark.BenchmarkListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ApplicationEventBus#fireEvent(ApplicationEvent)} while a Listener registers another Listener
+ *  on every Event, compared to the same Events without Registration. Both Events have the given Number of
+ *  Listeners which do nothing, plus one more Listener. The registered Listeners listen to an Event which is never
+ *  published, so the Cost of the Dispatch stays the same, and the Difference is the Cost of the
+ *  Registration while the Dispatch is in Progress.
+ * <p>
+ * Every Registration adds a Listener, which is never removed. So every Invocation starts with a new Bus, and
+ *  publishes a fixed Number of Events. The Score and the Allocation are reported per Event.
+ * <p>
+ * Listeners are registered from within a Listener, i.e. on the publishing Thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusRegistrationBenchmark {
+
+    private static final int EVENTS_PER_INVOCATION = 10_000;
+
+    @Param({ "0", "1", "10", "100" })
+    public int listeners;
+
+    private final BenchmarkEvent event = new BenchmarkEvent();
+    private final RegisteringEvent registeringEvent = new RegisteringEvent();
+
+    private ApplicationEventBus eventBus;
+
+    @Setup(Level.Invocation) public void setup() {
+        eventBus = EventBusBenchmark.busBehindDelegate(EventBusBenchmark.eventBusRepository());
+        for (int i = 0; i < listeners; i++) {
+            eventBus.register(new BenchmarkListener());
+            eventBus.register(new RegisteringEventListener(null));
+        }
+        eventBus.register(new BenchmarkListener());
+        eventBus.register(new RegisteringEventListener(eventBus));
+    }
+
+    @Benchmark @OperationsPerInvocation(EVENTS_PER_INVOCATION) public void publish() {
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            eventBus.fireEvent(event);
+        }
+    }
+
+    @Benchmark @OperationsPerInvocation(EVENTS_PER_INVOCATION) public void publishAndRegister() {
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            eventBus.fireEvent(registeringEvent);
+        }
+    }
+
+    public static class RegisteringEvent implements ApplicationEvent {
+
+    }
+
+    public static class UnpublishedEvent implements ApplicationEvent {
+
+    }
+
+    /**
+     * Registers a new Listener for the {@link UnpublishedEvent} on every Event, if a Bus is given. Otherwise it
+     *  does nothing, like the {@link BenchmarkListener}.
+     */
+    public static class RegisteringEventListener extends AbstractApplicationEventListener<RegisteringEvent> {
+
+        private final ApplicationEventBus eventBus;
+
+        public RegisteringEventListener(final ApplicationEventBus eventBus) {
+            super(RegisteringEvent.class);
+            this.eventBus = eventBus;
+        }
+
+        @Override public void onEvent(final RegisteringEvent event) {
+            if (eventBus != null) {
+                eventBus.register(new UnpublishedEventListener());
+            }
+        }
+    }
+
+    public static class UnpublishedEventListener extends AbstractApplicationEventListener<UnpublishedEvent> {
+
+        public UnpublishedEventListener() {
+            super(UnpublishedEvent.class);
+        }
+
+        @Override public void onEvent(final UnpublishedEvent event) {
+        }
+    }
+}
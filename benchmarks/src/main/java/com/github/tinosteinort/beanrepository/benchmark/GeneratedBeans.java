@@ -0,0 +1,51 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+
+import java.lang.reflect.Array;
+
+/**
+ * Provides many Beans of different Classes for Benchmarks, because every Bean of a {@link BeanRepository} needs
+ *  its own Class. The Beans are empty Arrays of different Component Types and Dimensions, so no Classes have
+ *  to be generated.
+ */
+final class GeneratedBeans {
+
+    private static final int MAX_DIMENSIONS = 250;
+    private static final Class<?>[] COMPONENT_TYPES = {
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+            Object.class, String.class, Boolean.class, Byte.class, Character.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, Number.class, CharSequence.class, StringBuilder.class,
+            Runnable.class, Thread.class, Class.class, Comparable.class, Iterable.class, Exception.class,
+            java.util.List.class, java.util.Map.class, java.util.Set.class, java.util.Queue.class,
+            java.util.Deque.class, java.util.ArrayList.class, java.util.HashMap.class, java.util.HashSet.class,
+            java.util.Optional.class, java.util.UUID.class, java.util.Random.class, java.util.Locale.class,
+            java.util.Date.class, java.util.BitSet.class
+    };
+
+    /**
+     * The maximum Number of different Beans.
+     */
+    static final int MAX_BEANS = MAX_DIMENSIONS * COMPONENT_TYPES.length;
+
+    private GeneratedBeans() {
+    }
+
+    /**
+     * @return a new Bean, whose Class is different for every Index.
+     */
+    static Object bean(final int index) {
+        if (index < 0 || index >= MAX_BEANS) {
+            throw new IllegalArgumentException("Index must be between 0 and " + (MAX_BEANS - 1));
+        }
+        final Class<?> componentType = COMPONENT_TYPES[index / MAX_DIMENSIONS];
+        return Array.newInstance(componentType, new int[index % MAX_DIMENSIONS + 1]);
+    }
+
+    /**
+     * @return the Class of the Bean with the given Index.
+     */
+    static Class<?> beanClass(final int index) {
+        return bean(index).getClass();
+    }
+}
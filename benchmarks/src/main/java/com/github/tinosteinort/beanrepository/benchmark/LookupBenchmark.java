@@ -0,0 +1,91 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanHandle;
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BeanRepository#getBean(Class)} of a {@code singleton} Bean, depending on the Number of
+ *  aliases which have to be resolved, and the Number of parent Repositories between the requesting
+ *  Repository and the Repository in which the Bean is registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    private static final Class<?>[] KEY_BY_ALIAS_DEPTH = {
+            LookupBean.class, Level10.class, Level9.class, Level8.class, Level7.class, Level6.class,
+            Level5.class, Level4.class, Level3.class, Level2.class, Level1.class
+    };
+
+    @Param({ "0", "1", "5", "10" })
+    public int aliasDepth;
+
+    @Param({ "0", "1", "5", "10" })
+    public int parentDepth;
+
+    private BeanRepository repository;
+    private Class<?> key;
+    private BeanHandle<?> handle;
+
+    @Setup public void setup() {
+        BeanRepository current = new BeanRepository.BeanRepositoryBuilder("root")
+                .singleton(LookupBean.class, LookupBean::new)
+                .alias(Level10.class, LookupBean.class)
+                .alias(Level9.class, Level10.class)
+                .alias(Level8.class, Level9.class)
+                .alias(Level7.class, Level8.class)
+                .alias(Level6.class, Level7.class)
+                .alias(Level5.class, Level6.class)
+                .alias(Level4.class, Level5.class)
+                .alias(Level3.class, Level4.class)
+                .alias(Level2.class, Level3.class)
+                .alias(Level1.class, Level2.class)
+                .build();
+
+        for (int i = 0; i < parentDepth; i++) {
+            current = new BeanRepository.BeanRepositoryBuilder("child" + i, current).build();
+        }
+
+        repository = current;
+        key = KEY_BY_ALIAS_DEPTH[aliasDepth];
+        handle = repository.handle(key);
+    }
+
+    @Benchmark public Object getBean() {
+        return repository.getBean(key);
+    }
+
+    @Benchmark public Object getBeanByHandle() {
+        return handle.get();
+    }
+
+    public interface Level1 { }
+    public interface Level2 extends Level1 { }
+    public interface Level3 extends Level2 { }
+    public interface Level4 extends Level3 { }
+    public interface Level5 extends Level4 { }
+    public interface Level6 extends Level5 { }
+    public interface Level7 extends Level6 { }
+    public interface Level8 extends Level7 { }
+    public interface Level9 extends Level8 { }
+    public interface Level10 extends Level9 { }
+
+    public static class LookupBean implements Level10 { }
+}
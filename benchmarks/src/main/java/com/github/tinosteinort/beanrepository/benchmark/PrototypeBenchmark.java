@@ -0,0 +1,156 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanAccessor;
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import com.github.tinosteinort.beanrepository.PostConstructible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BeanRepository#getPrototypeBean(java.util.function.Supplier)} and its Overloads, compared to
+ *  the direct Creation of the Bean with {@code new}, and the Creation of a registered {@code prototype} Bean
+ *  with bound Dependencies. All Creators are non capturing Lambdas, so the only Allocation is the Bean itself.
+ * <p>
+ * The {@link #main(String[])} Method runs the Benchmarks with the GC Profiler ({@code -prof gc}), and fails if
+ *  any Benchmark allocates more Bytes per Operation than the direct Creation of the Bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrototypeBenchmark {
+
+    private static final String BASELINE = "newBean";
+    private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+    private static final double TOLERANCE_IN_BYTES = 4.0;
+
+    private final String param1 = "param1";
+    private final Integer param2 = 2;
+    private final Long param3 = 3L;
+    private final Double param4 = 4.0;
+    private final Character param5 = '5';
+
+    private BeanRepository repository;
+
+    @Setup public void setup() {
+        repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(param1)
+                .instance(param2)
+                .prototype(PrototypeBean.class, PrototypeBean::new, String.class, Integer.class)
+                .build();
+    }
+
+    @Benchmark public Object newBean() {
+        return new PrototypeBean(param1, param2);
+    }
+
+    @Benchmark public Object supplier() {
+        return repository.getPrototypeBean(() -> new PrototypeBean(null, null));
+    }
+
+    @Benchmark public Object function() {
+        return repository.getPrototypeBean((BeanAccessor beans) -> new PrototypeBean(beans, null));
+    }
+
+    @Benchmark public Object oneParameter() {
+        return repository.getPrototypeBean((String p1) -> new PrototypeBean(p1, null), param1);
+    }
+
+    @Benchmark public Object twoParameters() {
+        return repository.getPrototypeBean((String p1, Integer p2) -> new PrototypeBean(p1, p2), param1, param2);
+    }
+
+    @Benchmark public Object fiveParameters() {
+        return repository.getPrototypeBean(
+                (String p1, Integer p2, Long p3, Double p4, Character p5) -> new PrototypeBean(p1, p5),
+                param1, param2, param3, param4, param5);
+    }
+
+    @Benchmark public Object beansAndTwoParameters() {
+        return repository.getPrototypeBean(
+                (BeanAccessor beans, String p1, Integer p2) -> new PrototypeBean(p1, p2), param1, param2);
+    }
+
+    @Benchmark public Object registeredPrototype() {
+        return repository.getBean(PrototypeBean.class);
+    }
+
+    @Benchmark public Object postConstructible() {
+        return repository.getPrototypeBean(
+                (String p1, Integer p2) -> new PostConstructedPrototypeBean(p1, p2), param1, param2);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(PrototypeBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        final Collection<RunResult> results = new Runner(options).run();
+
+        double baseline = Double.NaN;
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().endsWith("." + BASELINE)) {
+                baseline = allocationPerOperation(result);
+            }
+        }
+        for (RunResult result : results) {
+            final double allocation = allocationPerOperation(result);
+            if (allocation > baseline + TOLERANCE_IN_BYTES) {
+                throw new IllegalStateException(String.format("%s allocates %.1f Bytes per Operation, but only %.1f"
+                        + " Bytes are allowed", result.getParams().getBenchmark(), allocation, baseline));
+            }
+        }
+        System.out.printf("All Benchmarks allocate not more than %.1f Bytes per Operation%n", baseline);
+    }
+
+    private static double allocationPerOperation(final RunResult result) {
+        for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+            if (secondary.getKey().endsWith(ALLOCATION_PER_OPERATION)) {
+                return secondary.getValue().getScore();
+            }
+        }
+        throw new IllegalStateException("No Allocation measured for " + result.getParams().getBenchmark());
+    }
+
+    public static class PrototypeBean {
+
+        private final Object first;
+        private final Object second;
+
+        public PrototypeBean(final Object first, final Object second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    public static class PostConstructedPrototypeBean extends PrototypeBean implements PostConstructible {
+
+        public PostConstructedPrototypeBean(final String param1, final Integer param2) {
+            super(param1, param2);
+        }
+
+        @Override public void onPostConstruct(final BeanRepository repository) {
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.tinosteinort.beanrepository.benchmark;
+
+import com.github.tinosteinort.beanrepository.BeanRepository;
+import com.github.tinosteinort.beanrepository.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Resolution of a Bean by every Scope and Access Path, depending on the Number of parent
+ *  Repositories between the requesting Repository and the Repository in which the Beans are registered:
+ *  {@link BeanRepository#getBean(Class)} of a {@code singleton}, an {@code instance}, an alias and a registered
+ *  {@code prototype} Bean, and {@link Provider#get()} of a {@code singleton} Bean, with and without a Lookup of
+ *  the {@link Provider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+    @Param({ "0", "1", "2", "5", "10" })
+    public int parentDepth;
+
+    private BeanRepository repository;
+    private Provider<SingletonBean> provider;
+
+    @Setup public void setup() {
+        BeanRepository current = new BeanRepository.BeanRepositoryBuilder("root")
+                .singleton(SingletonBean.class, SingletonBean::new)
+                .instance(new InstanceBean())
+                .alias(AliasBean.class, SingletonBean.class)
+                .prototype(PrototypeBean.class, PrototypeBean::new)
+                .build();
+
+        for (int i = 0; i < parentDepth; i++) {
+            current = new BeanRepository.BeanRepositoryBuilder("child" + i, current).build();
+        }
+
+        repository = current;
+        provider = repository.getProvider(SingletonBean.class);
+    }
+
+    @Benchmark public Object singleton() {
+        return repository.getBean(SingletonBean.class);
+    }
+
+    @Benchmark public Object instance() {
+        return repository.getBean(InstanceBean.class);
+    }
+
+    @Benchmark public Object alias() {
+        return repository.getBean(AliasBean.class);
+    }
+
+    @Benchmark public Object prototype() {
+        return repository.getBean(PrototypeBean.class);
+    }
+
+    @Benchmark public Object getProviderAndGet() {
+        return repository.getProvider(SingletonBean.class).get();
+    }
+
+    @Benchmark public Object providerGet() {
+        return provider.get();
+    }
+
+    public interface AliasBean { }
+
+    public static class SingletonBean implements AliasBean { }
+
+    public static class InstanceBean { }
+
+    public static class PrototypeBean { }
+}
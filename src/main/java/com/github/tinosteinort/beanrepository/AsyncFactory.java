@@ -0,0 +1,34 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Creates an Instance of a Bean asynchronously, e.g. a Bean which opens a Connection or warms a Cache. Like a
+ *  {@link Factory}, an AsyncFactory is not a Bean by itself. The Object which completes the returned
+ *  {@link CompletionStage} is the Bean. {@link PostConstructible#onPostConstruct(BeanRepository)} is executed for
+ *  the Factory Object and for the Bean, if {@link PostConstructible} is implemented.
+ * <p>
+ * If {@code singleton} Beans are initialised when the {@link BeanRepository} is built, all asynchronous Factories
+ *  are started first, and the Build waits for all of them at the End. So the Beans are created concurrently,
+ *  and concurrently to the other Beans.
+ *
+ * @param <T>    The Type of the Bean
+ */
+public interface AsyncFactory<T> {
+
+    /**
+     * Starts the Creation of an Instance of a Bean. This Method should not block.
+     *  {@link PostConstructible#onPostConstruct(BeanRepository)} of the Bean must not executed from this Method.
+     *  This Method may executed from the {@link BeanRepository} later.
+     *
+     * @return The Stage which is completed with the created Instance of this Factory.
+     */
+    CompletionStage<T> createInstance();
+
+    /**
+     * This method is needed to get the type of the bean.
+     *
+     * @return the {@code Class} of the bean
+     */
+    Class<T> getBeanType();
+}
@@ -0,0 +1,80 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Provides a {@code prototype} Bean which is created by an {@link AsyncFactory}. A synchronous Request waits
+ *  for the Creation, {@link #getBeanAsync(BeanRepository, DryRunAware)} returns without waiting.
+ */
+class AsyncPrototypeFactoryProvider implements BeanProvider {
+
+    private final String repositoryId;
+    private final Function<BeanAccessor, AsyncFactory> creator;
+
+    AsyncPrototypeFactoryProvider(final String repositoryId, final Function<BeanAccessor, AsyncFactory> creator) {
+        this.repositoryId = repositoryId;
+        this.creator = creator;
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        if (dryRun.isDryRun()) {
+            // This call is only needed to detect cyclic dependencies on dryRun.
+            repository.construct(this, creator);
+
+            // In case of a dry run, whether the postConstruct() method nor the createInstance()
+            //  method of the factory must not be called. So we can just return NULL.
+            return null;
+        }
+        try {
+            return (T) createInstance(repository).join();
+        }
+        catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    @Override public <T> CompletableFuture<T> getBeanAsync(final BeanRepository repository,
+            final DryRunAware dryRun) {
+        if (dryRun.isDryRun()) {
+            return CompletableFuture.completedFuture(getBean(repository, dryRun));
+        }
+        try {
+            return createInstance(repository).thenApply(bean -> (T) bean);
+        }
+        catch (RuntimeException | Error ex) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(ex);
+            return result;
+        }
+    }
+
+    private CompletableFuture<Object> createInstance(final BeanRepository repository) {
+        final AsyncFactory factory = repository.construct(this, creator);
+        repository.postConstruct(this, factory);
+        return factory.createInstance().toCompletableFuture().thenApply(bean -> {
+            repository.prototypeCreated(bean);
+            repository.postConstruct(this, bean);
+            return bean;
+        });
+    }
+
+    @Override public String getRepositoryId() {
+        return repositoryId;
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return dryRun.execute(() -> {
+            final AsyncFactory tempFactory = creator.apply(repository.accessor());
+            return tempFactory.getBeanType();
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Provides a {@code singleton} Bean which is created by an {@link AsyncFactory}. The Creation is started by
+ *  {@link #start(BeanRepository)}: the Factory is created and post constructed by the calling Thread, and the
+ *  Result of {@link AsyncFactory#createInstance()} is the Construction of the claimed Bean. The Bean is published
+ *  by the first Thread which needs it, or by the Thread which completes the Creation, whichever comes first.
+ *  No Thread is blocked while the Bean is created, except a Thread which requests the Bean synchronously.
+ */
+class AsyncSingletonFactoryProvider extends SingletonBeanProvider {
+
+    private final Function<BeanAccessor, AsyncFactory> creator;
+
+    AsyncSingletonFactoryProvider(final String repositoryId, final Function<BeanAccessor, AsyncFactory> creator) {
+        super(repositoryId);
+        this.creator = creator;
+    }
+
+    /**
+     * Starts the Creation of the Bean, if it is not already created or in Progress.
+     *
+     * @return the Marker of the started Creation, or {@code null} if the Bean is already created or in Progress
+     */
+    Initialisation start(final BeanRepository repository) {
+        final Initialisation claimed = claim();
+        if (claimed == null) {
+            return null;
+        }
+        final CompletableFuture<Object> creation;
+        try {
+            creation = createInstance(repository);
+        }
+        catch (RuntimeException | Error ex) {
+            abandon(claimed, ex);
+            throw ex;
+        }
+        claimed.constructIn(creation);
+        creation.whenComplete((bean, error) -> {
+            try {
+                publish(repository, claimed);
+            }
+            catch (RuntimeException | Error ex) {
+                // The Failure is passed by the Marker to every Thread which waits for the Bean
+            }
+        });
+        return claimed;
+    }
+
+    @Override public <T> CompletableFuture<T> getBeanAsync(final BeanRepository repository,
+            final DryRunAware dryRun) {
+        while (true) {
+            final Object bean = instance();
+            if (bean != null) {
+                return CompletableFuture.completedFuture((T) bean);
+            }
+            if (dryRun.isDryRun()) {
+                return CompletableFuture.completedFuture(getBean(repository, dryRun));
+            }
+            final Initialisation current = inProgress();
+            if (current != null) {
+                return current.thenApply(created -> (T) created);
+            }
+            try {
+                final Initialisation started = start(repository);
+                if (started != null) {
+                    return started.thenApply(created -> (T) created);
+                }
+            }
+            catch (RuntimeException | Error ex) {
+                final CompletableFuture<T> result = new CompletableFuture<>();
+                result.completeExceptionally(ex);
+                return result;
+            }
+        }
+    }
+
+    private CompletableFuture<Object> createInstance(final BeanRepository repository) {
+        final AsyncFactory factory = repository.construct(this, creator);
+        repository.postConstruct(this, factory);
+        return factory.createInstance().toCompletableFuture();
+    }
+
+    @Override Object constructBean(final BeanRepository repository) {
+        try {
+            return createInstance(repository).join();
+        }
+        catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * The Factory is post constructed when the Creation is started, so only the Bean is post constructed in
+     *  this Step.
+     */
+    @Override Object initialiseBean(final BeanRepository repository, final Object constructed) {
+        repository.postConstruct(this, constructed);
+        return constructed;
+    }
+
+    @Override Object createDryRunBean(final BeanRepository repository) {
+        // This call is only needed to detect cyclic dependencies on dryRun.
+        creator.apply(repository.accessor());
+
+        // In case of a dry run, whether the postConstruct() method nor the createInstance()
+        //  method of the factory must not be called. So we can just return NULL.
+        return null;
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return dryRun.execute(() -> {
+            final AsyncFactory tempFactory = creator.apply(repository.accessor());
+            return tempFactory.getBeanType();
+        });
+    }
+}
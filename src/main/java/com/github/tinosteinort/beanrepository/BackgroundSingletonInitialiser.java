@@ -0,0 +1,82 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Initialises {@code singleton} Beans of a {@link BeanRepository} in the Background, after the Repository is
+ *  built. The Beans are initialised one after the other by a single Task of the {@link Executor}, in the Order of
+ *  their Dependencies. Beans which are created by an {@link AsyncFactory} are started first, so their Creation
+ *  runs concurrently to the other Beans.
+ * <p>
+ * Every Bean is claimed by the Background Task before it is created. A Thread which requests a Bean while it is
+ *  created in the Background waits for this Creation, and does not create the Bean a second Time. A Bean which is
+ *  requested before the Background Task gets to it is created by the requesting Thread, and is skipped by the
+ *  Background Task.
+ * <p>
+ * If the Creation of a Bean fails, the Background Task continues with the other Beans. The returned Future
+ *  completes exceptionally with the first Failure, all other Failures are suppressed Exceptions of it.
+ */
+class BackgroundSingletonInitialiser {
+
+    private final BeanRepository repository;
+    private final DryRunAware dryRun;
+    private final Executor executor;
+
+    BackgroundSingletonInitialiser(final BeanRepository repository, final DryRunAware dryRun,
+            final Executor executor) {
+        this.repository = repository;
+        this.dryRun = dryRun;
+        this.executor = executor;
+    }
+
+    CompletableFuture<Void> initialise(final List<SingletonBeanProvider> singletons) {
+        return CompletableFuture.runAsync(() -> initialiseAll(singletons), executor);
+    }
+
+    private void initialiseAll(final List<SingletonBeanProvider> singletons) {
+        final List<RuntimeException> failures = new ArrayList<>();
+
+        for (SingletonBeanProvider singleton : singletons) {
+            if (singleton instanceof AsyncSingletonFactoryProvider) {
+                try {
+                    ((AsyncSingletonFactoryProvider) singleton).start(repository);
+                }
+                catch (RuntimeException ex) {
+                    failures.add(ex);
+                }
+            }
+        }
+        for (SingletonBeanProvider singleton : singletons) {
+            if (!(singleton instanceof AsyncSingletonFactoryProvider)) {
+                initialise(singleton, failures);
+            }
+        }
+        for (SingletonBeanProvider singleton : singletons) {
+            if (singleton instanceof AsyncSingletonFactoryProvider) {
+                initialise(singleton, failures);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            final RuntimeException failure = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                if (failures.get(i) != failure) {
+                    failure.addSuppressed(failures.get(i));
+                }
+            }
+            throw failure;
+        }
+    }
+
+    private void initialise(final SingletonBeanProvider singleton, final List<RuntimeException> failures) {
+        try {
+            singleton.getBean(repository, dryRun);
+        }
+        catch (RuntimeException ex) {
+            failures.add(ex);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -10,6 +13,11 @@ public abstract class BeanDefinition<T> {
 
     private final Scope scope;
     private final Class<T> beanClass;
+    private PoolSettings poolSettings = PoolSettings.DEFAULT;
+    private Consumer<? super T> threadCleanup = bean -> { };
+    private int stripes = Runtime.getRuntime().availableProcessors();
+    private Boolean lazyInitialisation;
+    private int initPriority;
 
     BeanDefinition(final Scope scope, final Class<T> beanClass) {
         this.scope = scope;
@@ -26,6 +34,128 @@ public abstract class BeanDefinition<T> {
         return beanClass;
     }
 
+    /**
+     * Defines if a Bean with the Scope {@link Scope#SINGLETON} is initialised when the {@link BeanRepository} is
+     *  built, or when it is requested the first Time. Without this Configuration, the Setting of the Repository
+     *  is used, see {@link BeanRepository.BeanRepositoryBuilder#enableLazySingletonBeans(boolean)}. A lazy Bean
+     *  is created anyway if an eager Bean depends on it.
+     *
+     * @param lazyInitialisation {@code true} if the Bean is initialised when requested, {@code false} if it is
+     *                           initialised when the Repository is built.
+     * @return this Definition. Part of the fluent API.
+     */
+    public BeanDefinition<T> withLazyInitialisation(final boolean lazyInitialisation) {
+        validateSingleton("A lazy Initialisation");
+        this.lazyInitialisation = lazyInitialisation;
+        return this;
+    }
+
+    Optional<Boolean> getLazyInitialisation() {
+        return Optional.ofNullable(lazyInitialisation);
+    }
+
+    /**
+     * Defines the Priority of a Bean with the Scope {@link Scope#SINGLETON}, which is initialised when the
+     *  {@link BeanRepository} is built. Beans with a higher Priority are initialised first, but always after the
+     *  Beans they depend on. Beans with the same Priority are initialised in the Order of their Registration.
+     *  Without this Configuration, the Priority is 0.
+     *
+     * @param initPriority  The Priority of the Bean.
+     * @return this Definition. Part of the fluent API.
+     */
+    public BeanDefinition<T> withInitPriority(final int initPriority) {
+        validateSingleton("An Init Priority");
+        this.initPriority = initPriority;
+        return this;
+    }
+
+    int getInitPriority() {
+        return initPriority;
+    }
+
+    private void validateSingleton(final String setting) {
+        if (scope != Scope.SINGLETON) {
+            throw new IllegalStateException(setting + " is only supported for Scope " + Scope.SINGLETON
+                    + ", but Scope is " + scope);
+        }
+    }
+
+    /**
+     * Configures the Pool of a Bean with the Scope {@link Scope#POOLED}. Without this Configuration,
+     *  {@link PoolSettings#DEFAULT} is used.
+     *
+     * @param poolSettings  The Configuration of the Pool.
+     * @return this Definition. Part of the fluent API.
+     */
+    public BeanDefinition<T> withPoolSettings(final PoolSettings poolSettings) {
+        if (scope != Scope.POOLED) {
+            throw new IllegalStateException("Pool Settings are only supported for Scope " + Scope.POOLED
+                    + ", but Scope is " + scope);
+        }
+        this.poolSettings = poolSettings;
+        return this;
+    }
+
+    BeanProvider pooled(final BeanProvider prototype) {
+        return new PooledBeanProvider(prototype, poolSettings);
+    }
+
+    /**
+     * Registers a Hook for a Bean with the Scope {@link Scope#THREAD}, which is executed when the Instance of a
+     *  Thread is released.
+     *
+     * @param threadCleanup The Hook which gets the released Instance.
+     * @return this Definition. Part of the fluent API.
+     */
+    public BeanDefinition<T> withThreadCleanup(final Consumer<? super T> threadCleanup) {
+        if (scope != Scope.THREAD) {
+            throw new IllegalStateException("A Thread Cleanup is only supported for Scope " + Scope.THREAD
+                    + ", but Scope is " + scope);
+        }
+        this.threadCleanup = threadCleanup;
+        return this;
+    }
+
+    BeanProvider threadScoped(final BeanProvider prototype) {
+        return new ThreadScopedProvider(prototype, threadCleanup);
+    }
+
+    /**
+     * Configures the Number of Stripes of a Bean with the Scope {@link Scope#STRIPED}. Without this
+     *  Configuration, there is one Stripe per available Processor.
+     *
+     * @param stripes   The Number of Instances of the Bean. Must be greater than 0.
+     * @return this Definition. Part of the fluent API.
+     */
+    public BeanDefinition<T> withStripes(final int stripes) {
+        if (scope != Scope.STRIPED) {
+            throw new IllegalStateException("Stripes are only supported for Scope " + Scope.STRIPED
+                    + ", but Scope is " + scope);
+        }
+        if (stripes < 1) {
+            throw new IllegalArgumentException("The Number of Stripes must be greater than 0, but is " + stripes);
+        }
+        this.stripes = stripes;
+        return this;
+    }
+
+    BeanProvider striped(final BeanProvider prototype) {
+        return new StripedProvider(prototype, stripes);
+    }
+
+    BeanProvider scoped(final BeanProvider prototype) {
+        return new ScopedProvider(prototype);
+    }
+
+    /**
+     * Returns the Classes of the Beans which are needed to create the Bean, if they are known without creating
+     *  the Bean. The Result is empty if the Bean is created by a {@link Function} with a {@link BeanAccessor}:
+     *  the Dependencies of such a Bean are only known when it is created.
+     */
+    Optional<List<Class<?>>> getDependencies() {
+        return Optional.empty();
+    }
+
     public static <T> BeanDefinition<T> create(final Scope scope, final Class<T> beanClass,
                                                final Supplier<T> supplier) {
 
@@ -50,6 +180,18 @@ public abstract class BeanDefinition<T> {
         return new FunctionFactoryBeanDefinition<>(scope, beanClass, function);
     }
 
+    public static <T> BeanDefinition<T> createAsyncFactory(final Scope scope, final Class<T> beanClass,
+                                                           final Supplier<AsyncFactory<T>> supplier) {
+
+        return new SupplierAsyncFactoryBeanDefinition<>(scope, beanClass, supplier);
+    }
+
+    public static <T> BeanDefinition<T> createAsyncFactory(final Scope scope, final Class<T> beanClass,
+                                                           final Function<BeanAccessor, AsyncFactory<T>> function) {
+
+        return new FunctionAsyncFactoryBeanDefinition<>(scope, beanClass, function);
+    }
+
     public static <T> BeanDefinition<T> createInstance(final T instance) {
 
         return new InstanceBeanDefinition<>(instance);
@@ -0,0 +1,52 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * A Handle to a Bean of a {@link BeanRepository}, created by {@link BeanRepository#handle(Class)}. The Class of
+ *  the Bean is resolved only once, when the Handle is created. The Handle holds the resolved Provider of the
+ *  Bean, so every Access to the Bean after the Build of the Repository is a direct Call of the Provider.
+ *
+ * @param <T>   The Type of the Bean
+ */
+public final class BeanHandle<T> implements Provider<T> {
+
+    private final BeanRepository repository;
+    private final int index;
+    private final BeanProvider provider;
+    private final DryRunAware dryRun;
+
+    BeanHandle(final BeanRepository repository, final int index, final BeanProvider provider,
+            final DryRunAware dryRun) {
+        this.repository = repository;
+        this.index = index;
+        this.provider = provider;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Returns the Bean of this Handle. The Scope of the Bean depends on the Configuration.
+     *  If the Bean is not already initialised, the Bean will be initialised by calling this Method.
+     *  It is possible that the {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed.
+     *
+     * @see PostConstructible
+     * @return a constructed and full initialised Bean.
+     */
+    @Override public T get() {
+        if (repository.isRecordingDependencies()) {
+            // While the Build, the Access is recorded as Dependency of the Bean which is created
+            return repository.getDependency(provider);
+        }
+        return provider.getBean(repository, dryRun);
+    }
+
+    int index() {
+        return index;
+    }
+
+    BeanProvider provider() {
+        return provider;
+    }
+
+    @Override public String toString() {
+        return "[" + BeanHandle.class.getSimpleName() + ": " + index + "@" + repository + "]";
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.concurrent.CompletableFuture;
+
 interface BeanProvider {
 
     <T> T getBean(BeanRepository repository, DryRunAware dryRun);
@@ -7,4 +9,26 @@ interface BeanProvider {
     Class<?> resolveBeanType(BeanRepository repository, DryRunAware dryRun);
 
     String getRepositoryId();
+
+    /**
+     * Binds the declared Dependencies of the Bean, after the {@link BeanRepository} is built.
+     */
+    default void bindDependencies(final BeanRepository repository) {
+    }
+
+    /**
+     * Returns the Bean without blocking, if it is created asynchronously. Every other Bean is created by
+     *  the calling Thread, and returned as completed Future. A Failure of the Creation completes the Future
+     *  exceptionally.
+     */
+    default <T> CompletableFuture<T> getBeanAsync(final BeanRepository repository, final DryRunAware dryRun) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(getBean(repository, dryRun));
+        }
+        catch (RuntimeException | Error ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
 }
@@ -1,11 +1,25 @@
 package com.github.tinosteinort.beanrepository;
 
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -14,22 +28,180 @@ import java.util.function.Supplier;
  *  or Annotations. Because of this it is possible to the BeanRepository in a Java Sandbox, even without
  *  signed Code.
  */
-public class BeanRepository {
+public class BeanRepository implements AutoCloseable {
+
+    private static final Duration DEFAULT_DISPOSAL_TIMEOUT = Duration.ofSeconds(30);
 
     private final String name;
     private final Optional<BeanRepository> parent;
-    private final Map<Class<?>, BeanProvider> beanCreators = new HashMap<>();
+    private final Map<Class<?>, BeanProvider> beanCreators = new LinkedHashMap<>();
     private final Map<Class<?>, Class<?>> aliases = new HashMap<>();
+    private final Map<BeanProvider, List<Class<?>>> declaredDependencies = new IdentityHashMap<>();
+    private final BeanRepository sharedParent;
+    private final Map<Class<?>, BeanProvider> lookupTable;
+    private final Map<BeanProvider, Integer> handleIndices = new IdentityHashMap<>();
+    private final int handleOffset;
+    private final int handleCount;
+    private final ScopedProvider[] scopedProviders;
     private final BeanAccessor accessor = new BeanRepositoryShelter(this);
     private final PostConstructor postConstructor = new PostConstructor(this);
     private final DryRunAware dryRun = new DryRunAware();
+    private final DependencyGraph dependencies = new DependencyGraph();
+    private CreationStack creationStack;
+    private volatile TypeIndex typeIndex;
+    private final ConcurrentMap<Class<?>, Set<?>> beansOfType = new ConcurrentHashMap<>();
+    private final AtomicBoolean disposed = new AtomicBoolean();
+    private final Duration disposalDeadline;
+    private final Duration disposalBeanTimeout;
+    private final int disposalParallelism;
+    private volatile CompletableFuture<Void> backgroundInitialisation = CompletableFuture.completedFuture(null);
+    private final StartupRecorder startupRecorder;
+    private volatile StartupReport startupReport;
+    private final FlightRecorderEvents flightRecorderEvents;
+    private final RepositoryMetrics metrics;
+    private volatile ObjectName mbeanName;
 
-    private BeanRepository(final String name, final BeanRepository parent,
-            final Map<Class<?>, BeanProvider> beanCreators, final Map<Class<?>, Class<?>> aliases) {
-        this.name = name;
+    /**
+     * Every Setting of the Builder is assigned to a final Field, so a Repository which is passed to an other
+     *  Thread without Synchronisation is seen completely configured.
+     */
+    private BeanRepository(final BeanRepositoryBuilder builder) {
+        final BeanRepository parent = builder.parentRepository;
+        this.name = builder.name;
         this.parent = Optional.ofNullable(parent);
-        this.beanCreators.putAll(beanCreators);
-        this.aliases.putAll(aliases);
+        this.beanCreators.putAll(builder.beanCreators);
+        this.aliases.putAll(builder.aliases);
+        this.declaredDependencies.putAll(builder.declaredDependencies);
+        this.sharedParent = sharesTablesWith(parent, builder.beanCreators, builder.aliases) ? parent : null;
+        this.handleOffset = sharedParent != null ? sharedParent.handleOffset + sharedParent.handleCount : 0;
+        this.lookupTable = createLookupTable();
+        this.handleCount = assignHandleIndices();
+        this.scopedProviders = createScopedProviders();
+        this.disposalDeadline = builder.disposalDeadline;
+        this.disposalBeanTimeout = builder.disposalBeanTimeout;
+        this.disposalParallelism = builder.disposalParallelism;
+        this.metrics = builder.metrics != null ? builder.metrics
+                : parent != null ? parent.metrics : RepositoryMetrics.NOOP;
+        this.flightRecorderEvents = builder.slowLookupThreshold != null
+                ? FlightRecorderEvents.create(name, builder.slowLookupThreshold)
+                : null;
+        this.startupRecorder = builder.startupReport && !sharesTables() ? createStartupRecorder() : null;
+    }
+
+    /**
+     * A child Repository which only adds {@code instance} Beans, e.g. a Repository per Request, shares the
+     *  Tables of its parent instead of copying them. So the Creation of such a Repository costs only the Number
+     *  of its own Beans, and needs no dry run. Only the Tables of a parent which does not share Tables itself
+     *  are shared, so the Lookup of a Bean needs at most two Accesses, regardless of the Depth of parent
+     *  Repositories.
+     */
+    private static boolean sharesTablesWith(final BeanRepository parent,
+            final Map<Class<?>, BeanProvider> beanCreators, final Map<Class<?>, Class<?>> aliases) {
+        if (parent == null || parent.sharesTables() || !aliases.isEmpty()) {
+            return false;
+        }
+        for (BeanProvider provider : beanCreators.values()) {
+            if (!(provider instanceof InstanceProvider)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sharesTables() {
+        return sharedParent != null;
+    }
+
+    /**
+     * The Configuration of a {@link BeanRepository} can not be changed after it is built. Because of this,
+     *  aliases and the Beans of all parent Repositories are resolved once, and every Lookup of a Bean
+     *  needs only one Access to the Table, regardless of the Depth of aliases or parent Repositories.
+     *  Only a Repository which shares the Tables of its parent contains just its own Beans.
+     */
+    private Map<Class<?>, BeanProvider> createLookupTable() {
+        if (sharesTables()) {
+            return new HashMap<>(beanCreators);
+        }
+        final Map<Class<?>, BeanProvider> table = new HashMap<>();
+        parent.ifPresent(parent -> parent.copyLookupTable(table));
+        for (Class<?> alias : aliases.keySet()) {
+            final BeanProvider provider = resolveBeanProvider(alias);
+            if (provider != null) {
+                table.put(alias, provider);
+            }
+        }
+        table.putAll(beanCreators);
+        return table;
+    }
+
+    private void copyLookupTable(final Map<Class<?>, BeanProvider> table) {
+        if (sharesTables()) {
+            sharedParent.copyLookupTable(table);
+        }
+        table.putAll(lookupTable);
+    }
+
+    private BeanProvider lookup(final Class<?> cls) {
+        final BeanProvider provider = lookupTable.get(cls);
+        if (provider == null && sharesTables()) {
+            return sharedParent.lookup(cls);
+        }
+        return provider;
+    }
+
+    /**
+     * Every distinct {@link BeanProvider} of the Lookup Table gets a dense Index, which identifies the Bean of a
+     *  {@link BeanHandle}. If the Tables of the parent are shared, the Indices of the own Beans follow the Indices
+     *  of the parent.
+     *
+     * @return the Number of assigned Indices
+     */
+    private int assignHandleIndices() {
+        for (BeanProvider provider : lookupTable.values()) {
+            handleIndices.putIfAbsent(provider, handleOffset + handleIndices.size());
+        }
+        return handleIndices.size();
+    }
+
+    /**
+     * Every {@code scoped} Bean gets a Slot in a {@link ScopeContext}. The Slots of the own Beans follow the Slots
+     *  of the parent, so a Context of this Repository contains the {@code scoped} Beans of all parents.
+     */
+    private ScopedProvider[] createScopedProviders() {
+        if (sharesTables()) {
+            return sharedParent.scopedProviders;
+        }
+        final List<ScopedProvider> providers = new ArrayList<>();
+        parent.ifPresent(parent -> providers.addAll(Arrays.asList(parent.scopedProviders)));
+        for (BeanProvider provider : beanCreators.values()) {
+            if (provider instanceof ScopedProvider) {
+                ((ScopedProvider) provider).assignSlot(providers.size());
+                providers.add((ScopedProvider) provider);
+            }
+        }
+        return providers.toArray(new ScopedProvider[providers.size()]);
+    }
+
+    private int handleIndexOf(final BeanProvider provider) {
+        final Integer index = handleIndices.get(provider);
+        if (index == null) {
+            return sharedParent.handleIndexOf(provider);
+        }
+        return index;
+    }
+
+    private BeanProvider resolveBeanProvider(final Class<?> cls) {
+        final BeanProvider provider = beanCreators.get(cls);
+        if (provider == null) {
+            final Class<?> aliasEntry = aliases.get(cls);
+            if (aliasEntry != null) {
+                return resolveBeanProvider(aliasEntry);
+            }
+            return parent
+                    .map(parent -> parent.lookup(cls))
+                    .orElse(null);
+        }
+        return provider;
     }
 
     /**
@@ -44,20 +216,54 @@ public class BeanRepository {
      * @return a constructed and full initialised Bean.
      */
     public <R, T extends R> T getBean(final Class<R> cls) {
+        metrics.beanRequested(cls);
         final BeanProvider provider = beanProviderFor(cls);
-        return provider.getBean(this, dryRun);
+        final FlightRecorderEvents events = flightRecorderEvents;
+        if (events == null) {
+            return provider.getBean(this, dryRun);
+        }
+        return recordedLookup(events, cls, provider);
+    }
+
+    /**
+     * Emits a slow Call of {@link #getBean(Class)} to the Java Flight Recorder. The Time is only measured while a
+     *  Recording of the Event is running.
+     */
+    private <T> T recordedLookup(final FlightRecorderEvents events, final Class<?> cls,
+            final BeanProvider provider) {
+        final Object event = events.beginLookup();
+        if (event == null) {
+            return provider.getBean(this, dryRun);
+        }
+        final long start = System.nanoTime();
+        final T bean = provider.getBean(this, dryRun);
+        events.commitLookup(event, start, cls, provider);
+        return bean;
+    }
+
+    /**
+     * Returns the Bean of the given Type without blocking, if it is created by an {@link AsyncFactory}. If the
+     *  Creation of the Bean is not yet started, it is started now. If it is in Progress, the returned Future
+     *  completes with the Result of this Creation, no second Bean is created. Every other Bean is created by the
+     *  calling Thread, like by {@link BeanRepository#getBean(Class)}, and returned as completed Future.
+     *
+     * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
+     * @param <R>    The Type or a super Type of the Bean
+     * @param <T>    The Type of the Bean
+     * @see AsyncFactory
+     * @throws RuntimeException if no Bean is registered for the Class.
+     * @return a Future, which completes with the constructed and full initialised Bean, or exceptionally if the
+     *  Creation of the Bean fails.
+     */
+    public <R, T extends R> CompletableFuture<T> getBeanAsync(final Class<R> cls) {
+        final BeanProvider provider = beanProviderFor(cls);
+        return provider.getBeanAsync(this, dryRun);
     }
 
     private BeanProvider beanProviderFor(final Class<?> cls) {
-        final BeanProvider provider = beanCreators.get(cls);
+        final BeanProvider provider = lookup(cls);
         if (provider == null) {
-            final Class<?> aliasEntry = aliases.get(cls);
-            if (aliasEntry != null) {
-                return beanProviderFor(aliasEntry);
-            }
-            return parent
-                    .orElseThrow(() -> new RuntimeException("No Bean registered for Class " + cls.getName()))
-                    .beanProviderFor(cls);
+            throw new RuntimeException("No Bean registered for Class " + cls.getName());
         }
         return provider;
     }
@@ -76,8 +282,7 @@ public class BeanRepository {
      * @return a new created Object
      */
     public <T> T getPrototypeBean(final Supplier<T> creator) {
-        final PrototypeProvider provider = new PrototypeProvider(name, repository -> creator.get());
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.get());
     }
 
     /**
@@ -94,8 +299,7 @@ public class BeanRepository {
      * @return a new created Object
      */
     public <T> T getPrototypeBean(final Function<BeanAccessor, T> creator) {
-        final PrototypeProvider provider = new PrototypeProvider(name, creator);
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.apply(accessor));
     }
 
     /**
@@ -113,8 +317,7 @@ public class BeanRepository {
      * @return a new created Object
      */
     public <T, P1> T getPrototypeBean(final ConstructorWith1Parameter<T, P1> creator, final P1 param1) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(param1));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(param1));
     }
 
     /**
@@ -135,8 +338,7 @@ public class BeanRepository {
      */
     public <T, P1, P2> T getPrototypeBean(final ConstructorWith2Parameters<T, P1, P2> creator, final P1 param1,
             final P2 param2) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(param1, param2));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(param1, param2));
     }
 
     /**
@@ -159,9 +361,7 @@ public class BeanRepository {
      */
     public <T, P1, P2, P3> T getPrototypeBean(final ConstructorWith3Parameters<T, P1, P2, P3> creator,
             final P1 param1, final P2 param2, final P3 param3) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(param1, param2,
-                param3));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(param1, param2, param3));
     }
 
     /**
@@ -186,9 +386,7 @@ public class BeanRepository {
      */
     public <T, P1, P2, P3, P4> T getPrototypeBean(final ConstructorWith4Parameters<T, P1, P2, P3, P4> creator,
             final P1 param1, final P2 param2, final P3 param3, final P4 param4) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(param1, param2,
-                param3, param4));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(param1, param2, param3, param4));
     }
 
     /**
@@ -215,9 +413,7 @@ public class BeanRepository {
      */
     public <T, P1, P2, P3, P4, P5> T getPrototypeBean(final ConstructorWith5Parameters<T, P1, P2, P3, P4, P5> creator,
             final P1 param1, final P2 param2, final P3 param3, final P4 param4, final P5 param5) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(param1, param2,
-                param3, param4, param5));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(param1, param2, param3, param4, param5));
     }
 
     /**
@@ -236,8 +432,7 @@ public class BeanRepository {
      */
     public <T, P1> T getPrototypeBean(final ConstructorWithBeansAnd1Parameter<T, P1> creator,
             final P1 param1) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(beans, param1));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(accessor, param1));
     }
 
     /**
@@ -258,9 +453,7 @@ public class BeanRepository {
      */
     public <T, P1, P2> T getPrototypeBean(
             final ConstructorWithBeansAnd2Parameters<T, P1, P2> creator, final P1 param1, final P2 param2) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(beans, param1,
-                param2));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(accessor, param1, param2));
     }
 
     /**
@@ -284,9 +477,7 @@ public class BeanRepository {
     public <T, P1, P2, P3> T getPrototypeBean(
             final ConstructorWithBeansAnd3Parameters<T, P1, P2, P3> creator, final P1 param1, final P2 param2,
             final P3 param3) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(beans, param1, param2,
-                param3));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(accessor, param1, param2, param3));
     }
 
     /**
@@ -312,9 +503,7 @@ public class BeanRepository {
     public <T, P1, P2, P3, P4> T getPrototypeBean(
             final ConstructorWithBeansAnd4Parameters<T, P1, P2, P3, P4> creator, final P1 param1, final P2 param2,
             final P3 param3, final P4 param4) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(beans, param1, param2,
-                param3, param4));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(accessor, param1, param2, param3, param4));
     }
 
     /**
@@ -342,9 +531,19 @@ public class BeanRepository {
     public <T, P1, P2, P3, P4, P5> T getPrototypeBean(
             final ConstructorWithBeansAnd5Parameters<T, P1, P2, P3, P4, P5> creator, final P1 param1, final P2 param2,
             final P3 param3, final P4 param4, final P5 param5) {
-        final PrototypeProvider provider = new PrototypeProvider(name, beans -> creator.create(beans, param1, param2,
-                param3, param4, param5));
-        return provider.getBean(this, dryRun);
+        return initialisePrototype(creator.create(accessor, param1, param2, param3, param4, param5));
+    }
+
+    /**
+     * Finishes the Creation of a Bean by {@code getPrototypeBean(...)}. The Bean is created directly by the given
+     *  Creator, so no Object is allocated besides the Bean itself.
+     */
+    private <T> T initialisePrototype(final T bean) {
+        if (!dryRun.isDryRun()) {
+            prototypeCreated(bean);
+            postConstructor.postConstruct(null, bean);
+        }
+        return bean;
     }
 
     /**
@@ -352,21 +551,84 @@ public class BeanRepository {
      *  The Scope of the Bean depends on the Configuration. It is possible
      *  that the {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed.
      *
+     * <p>
+     * The Type of a Bean is the Class with which it is registered, or the Type of its {@link Factory}. The Beans
+     *  of a Type are determined once, without creating any Bean. If all found Beans are {@code singleton} or
+     *  {@code instance} Beans, the Result is cached, and every further Call returns the same Set.
+     *
      * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
      * @param <T>    The Type of the Bean
      * @see PostConstructible
-     * @return a constructed and full initialised Bean.
+     * @return an unmodifiable Set of constructed and full initialised Beans.
      */
     public <T> Set<T> getBeansOfType(final Class<T> cls) {
+        metrics.beansOfTypeRequested(cls);
+        return resolveBeansOfType(cls);
+    }
+
+    private <T> Set<T> resolveBeansOfType(final Class<T> cls) {
+        final Set<T> cached = (Set<T>) beansOfType.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+
         final Set<T> result = new HashSet<>();
-        parent.ifPresent(parent -> result.addAll(parent.getBeansOfType(cls)));
-        for (BeanProvider provider : beanCreators.values()) {
-            final Class<?> typeOfBean = provider.resolveBeanType(this, dryRun);
-            if (cls.isAssignableFrom(typeOfBean)) {
-                result.add(provider.getBean(this, dryRun));
+        boolean unchangeable = true;
+        if (parent.isPresent()) {
+            result.addAll(parent.get().resolveBeansOfType(cls));
+            unchangeable = parent.get().beansOfType.containsKey(cls);
+        }
+        for (BeanProvider provider : typeIndex().providersOf(cls)) {
+            result.add(provider.getBean(this, dryRun));
+            unchangeable &= isCreatedOnce(provider);
+        }
+
+        final Set<T> beans = Collections.unmodifiableSet(result);
+        if (unchangeable) {
+            beansOfType.putIfAbsent(cls, beans);
+        }
+        return beans;
+    }
+
+    /**
+     * A {@code singleton} Bean which is requested again while its own Creation, e.g. in
+     *  {@link PostConstructible#onPostConstruct(BeanRepository)}, is not yet published, and must not be cached.
+     */
+    private static boolean isCreatedOnce(final BeanProvider provider) {
+        if (provider instanceof SingletonBeanProvider) {
+            return ((SingletonBeanProvider) provider).instance() != null;
+        }
+        return provider instanceof InstanceProvider;
+    }
+
+    private TypeIndex typeIndex() {
+        TypeIndex index = typeIndex;
+        if (index == null) {
+            synchronized (beansOfType) {
+                index = typeIndex;
+                if (index == null) {
+                    index = new TypeIndex(resolveBeanTypes());
+                    typeIndex = index;
+                }
             }
         }
-        return result;
+        return index;
+    }
+
+    private Map<BeanProvider, Class<?>> resolveBeanTypes() {
+        final Map<BeanProvider, Class<?>> beanTypes = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, BeanProvider> entry : beanCreators.entrySet()) {
+            final BeanProvider provider = entry.getValue();
+            if (provider instanceof SingletonFactoryProvider || provider instanceof PrototypeFactoryProvider
+                    || provider instanceof AsyncSingletonFactoryProvider
+                    || provider instanceof AsyncPrototypeFactoryProvider) {
+                beanTypes.put(provider, provider.resolveBeanType(this, dryRun));
+            }
+            else {
+                beanTypes.put(provider, entry.getKey());
+            }
+        }
+        return beanTypes;
     }
 
     /**
@@ -383,7 +645,275 @@ public class BeanRepository {
     }
 
     private <T> Provider<T> providerFor(final BeanProvider beanProvider) {
-        return () -> beanProvider.getBean(BeanRepository.this, dryRun);
+        return () -> getDependency(beanProvider);
+    }
+
+    /**
+     * Resolves the Bean for the given Class once, and returns a {@link BeanHandle} to it. In contrast to
+     *  {@link BeanRepository#getBean(Class)}, every Access to the Bean by the returned Handle needs no
+     *  Lookup of the Class, and no Resolution of aliases or parent Repositories. Use a Handle if a Bean is
+     *  requested very often. The Bean is not initialised at the Time of getting the Handle.
+     *
+     * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
+     * @param <R>    The Type or a super Type of the Bean
+     * @param <T>    The Type of the Bean
+     * @return a Handle for the Bean of the given Class.
+     */
+    public <R, T extends R> BeanHandle<T> handle(final Class<R> cls) {
+        final BeanProvider provider = beanProviderFor(cls);
+        return new BeanHandle<>(this, handleIndexOf(provider), provider, dryRun);
+    }
+
+    /**
+     * Borrows a Bean with the Scope {@code pooled} from its Pool. If the Pool holds no idle Bean, a new Bean is
+     *  created, and {@link PostConstructible#onPostConstruct(BeanRepository)} is executed. If the Number of
+     *  borrowed Beans is limited, and the Limit is reached, this Method waits until a Bean is returned. The Bean
+     *  is returned to the Pool when the {@link Lease} is closed, and must not be used afterwards.
+     *
+     * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
+     * @param <R>    The Type or a super Type of the Bean
+     * @param <T>    The Type of the Bean
+     * @throws IllegalArgumentException if the Bean has not the Scope {@code pooled}.
+     * @throws IllegalStateException if the Pool is exhausted, see {@link PoolSettings#withMaxLeased(int)}.
+     * @return a Lease for a constructed and full initialised Bean.
+     */
+    public <R, T extends R> Lease<T> borrow(final Class<R> cls) {
+        return pooledProviderFor(cls).borrow(this, dryRun);
+    }
+
+    /**
+     * Returns the current Metrics of the Pool of a Bean with the Scope {@code pooled}.
+     *
+     * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
+     * @throws IllegalArgumentException if the Bean has not the Scope {@code pooled}.
+     * @return a Snapshot of the Metrics of the Pool.
+     */
+    public PoolMetrics getPoolMetrics(final Class<?> cls) {
+        return pooledProviderFor(cls).metrics();
+    }
+
+    private PooledBeanProvider pooledProviderFor(final Class<?> cls) {
+        final BeanProvider provider = beanProviderFor(cls);
+        if (!(provider instanceof PooledBeanProvider)) {
+            throw new IllegalArgumentException("The Bean of Class " + cls.getName() + " is not pooled");
+        }
+        return (PooledBeanProvider) provider;
+    }
+
+    /**
+     * Returns all created Instances of a Bean with the Scope {@code striped}. A Stripe is created when it is
+     *  requested the first Time, so Stripes which are never requested are not contained. The Stripes can be
+     *  used to merge the Values of the Instances.
+     *
+     * @param cls    The Class of the Bean, used in the Configuration of the BeanRepository
+     * @param <R>    The Type or a super Type of the Bean
+     * @param <T>    The Type of the Bean
+     * @throws IllegalArgumentException if the Bean has not the Scope {@code striped}.
+     * @return an unmodifiable List of the created Stripes.
+     */
+    public <R, T extends R> List<T> getStripes(final Class<R> cls) {
+        final BeanProvider provider = beanProviderFor(cls);
+        if (!(provider instanceof StripedProvider)) {
+            throw new IllegalArgumentException("The Bean of Class " + cls.getName() + " is not striped");
+        }
+        return ((StripedProvider) provider).createdStripes();
+    }
+
+    /**
+     * Creates a new {@link ScopeContext} for the {@code scoped} Beans of this Repository and all its parents.
+     *  The Context is created closed. It is intended to be created once, and opened and closed for every Unit
+     *  of Work.
+     *
+     * @return a new, closed Context.
+     */
+    public ScopeContext createScopeContext() {
+        return new ScopeContext(scopedProviders);
+    }
+
+    /**
+     * Releases the Instances of all {@code thread} Beans of this Repository, which belong to the current Thread.
+     *  The Cleanup Hook of every released Instance is executed. If the Thread requests such a Bean again, a new
+     *  Instance is created. Use this Method if a Thread of a Thread Pool has finished a Task, and should not keep
+     *  its Instances.
+     */
+    public void endThreadScope() {
+        for (ThreadScopedProvider provider : ownProviders(ThreadScopedProvider.class)) {
+            provider.releaseCurrentThread();
+        }
+    }
+
+    /**
+     * Releases the Instances of all {@code thread} Beans of this Repository, which belong to terminated Threads.
+     *  The Cleanup Hook of every released Instance is executed. The Instances of Threads which are already
+     *  garbage collected are also released whenever a new Instance of a {@code thread} Bean is created.
+     */
+    public void releaseTerminatedThreads() {
+        for (ThreadScopedProvider provider : ownProviders(ThreadScopedProvider.class)) {
+            provider.releaseTerminatedThreads();
+        }
+    }
+
+    /**
+     * Disposes all created {@code singleton} Beans of this Repository, with the Deadline and Bean Timeout which
+     *  are configured by {@link BeanRepositoryBuilder#enableDisposalTimeouts(Duration, Duration)}. See
+     *  {@link #dispose(Duration, Duration)}.
+     */
+    @Override public void close() {
+        dispose(disposalDeadline, disposalBeanTimeout);
+    }
+
+    /**
+     * Disposes all created {@code singleton} Beans of this Repository. For every Bean which implements
+     *  {@link PreDestroyable}, {@link PreDestroyable#onPreDestroy()} is executed, and for every Bean which
+     *  implements {@link AutoCloseable}, {@link AutoCloseable#close()} is executed. A Bean is disposed after all
+     *  Beans which depend on it, and Beans without a Relation to each other are disposed in parallel, limited by
+     *  {@link BeanRepositoryBuilder#enableDisposalParallelism(int)}. The Beans
+     *  of parent Repositories and {@code instance} Beans are not disposed. The Repository is disposed only once,
+     *  every further Call has no Effect.
+     * <p>
+     * If the Disposal of a Bean takes longer than the Bean Timeout, its Thread is interrupted, and the Disposal
+     *  continues with the other Beans. If the whole Disposal takes longer than the Deadline, the remaining Beans
+     *  are not disposed. Every Failure is collected, and thrown after the Disposal: the first Failure, with all
+     *  other Failures as suppressed Exceptions.
+     *
+     * @param deadline       The maximum Duration of the whole Disposal.
+     * @param beanTimeout    The maximum Duration of the Disposal of a single Bean.
+     * @throws RuntimeException if the Disposal of a Bean fails or times out, or the Deadline is exceeded.
+     */
+    public void dispose(final Duration deadline, final Duration beanTimeout) {
+        validateDisposalTimeouts(deadline, beanTimeout);
+        if (!disposed.compareAndSet(false, true)) {
+            return;
+        }
+        final ObjectName registeredMBean = mbeanName;
+        if (registeredMBean != null) {
+            mbeanName = null;
+            BeanRepositoryStatistics.unregister(registeredMBean);
+        }
+        final List<SingletonBeanProvider> created = new ArrayList<>();
+        for (SingletonBeanProvider singleton : ownSingletons()) {
+            if (singleton.instance() != null) {
+                created.add(singleton);
+            }
+        }
+        new SingletonDisposer(this, deadline, beanTimeout, disposalParallelism).dispose(created, dependencies);
+    }
+
+    private static void validateDisposalTimeouts(final Duration deadline, final Duration beanTimeout) {
+        Objects.requireNonNull(deadline, "deadline must not be null");
+        Objects.requireNonNull(beanTimeout, "beanTimeout must not be null");
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("deadline must be greater than 0, but was " + deadline);
+        }
+        if (beanTimeout.isNegative() || beanTimeout.isZero()) {
+            throw new IllegalArgumentException("beanTimeout must be greater than 0, but was " + beanTimeout);
+        }
+    }
+
+    private <P extends BeanProvider> List<P> ownProviders(final Class<P> providerClass) {
+        final List<P> result = new ArrayList<>();
+        for (BeanProvider provider : beanCreators.values()) {
+            if (providerClass.isInstance(provider)) {
+                result.add(providerClass.cast(provider));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a Bean which is requested while an other Bean is created. While the dry run, the Request is
+     *  recorded as Dependency of the created Bean.
+     */
+    <R, T extends R> T getDependency(final Class<R> cls) {
+        return getDependency(beanProviderFor(cls));
+    }
+
+    /**
+     * Returns a Bean which is requested by a {@link Provider} or a {@link BeanHandle}. These Requests are
+     *  Dependencies like the Requests of {@link #getDependency(Class)}, if they are made while a Bean is created.
+     */
+    <T> T getDependency(final BeanProvider provider) {
+        if (dependencies.isRecording()) {
+            return resolveDependency(provider);
+        }
+        return provider.getBean(this, dryRun);
+    }
+
+    /**
+     * @return {@code true} while the Dependencies of the Beans are recorded, i.e. while the Build.
+     */
+    boolean isRecordingDependencies() {
+        return dependencies.isRecording();
+    }
+
+    private <T> T resolveDependency(final BeanProvider provider) {
+        final StartupRecorder recorder = startupRecorder();
+        if (recorder != null && dryRun.isDryRun()) {
+            return recorder.record(StartupReport.Phase.DRY_RUN, provider,
+                    () -> dependencies.resolve(provider, () -> provider.getBean(this, dryRun)));
+        }
+        return dependencies.resolve(provider, () -> provider.getBean(this, dryRun));
+    }
+
+    /**
+     * @return the Recorder of the {@link StartupReport} while the Build, otherwise {@code null}.
+     */
+    StartupRecorder startupRecorder() {
+        final StartupRecorder recorder = startupRecorder;
+        return recorder != null && startupReport == null ? recorder : null;
+    }
+
+    /**
+     * Returns the Timing of the Build of this Repository, if it is enabled by
+     *  {@link BeanRepositoryBuilder#enableStartupReport(boolean)}. Beans which are created after the Build,
+     *  e.g. lazy {@code singleton} Beans or Beans which are initialised in the Background, are not part of the
+     *  Report.
+     *
+     * @return the Report of the Build, or an empty Optional if the Report is not enabled.
+     */
+    public Optional<StartupReport> getStartupReport() {
+        return Optional.ofNullable(startupReport);
+    }
+
+    /**
+     * Finishes the Recording of the {@link StartupReport}. Beans which are created afterwards are not recorded.
+     */
+    private void finishStartupReport() {
+        if (startupRecorder != null) {
+            startupReport = startupRecorder.report(ownSingletons(), dependencies);
+        }
+    }
+
+    /**
+     * Creates the Recorder of the {@link StartupReport}. Every Bean is named by the Class with which it is
+     *  registered, in this Repository or a parent Repository.
+     */
+    private StartupRecorder createStartupRecorder() {
+        final Map<BeanProvider, Class<?>> beanClasses = new IdentityHashMap<>();
+        for (BeanRepository repository = this; repository != null; repository = repository.parent.orElse(null)) {
+            for (Map.Entry<Class<?>, BeanProvider> entry : repository.beanCreators.entrySet()) {
+                beanClasses.putIfAbsent(entry.getValue(), entry.getKey());
+            }
+        }
+        return new StartupRecorder(provider -> beanClasses.getOrDefault(provider, provider.getClass()));
+    }
+
+    /**
+     * Returns the Bean of the given Class, if it is an {@code instance} Bean or an already created
+     *  {@code singleton} Bean. Otherwise {@code null} is returned, and no Bean is created.
+     */
+    <T> T createdBean(final Class<?> cls) {
+        final BeanProvider provider = beanProviderFor(cls);
+        if (isCreatedOnce(provider)) {
+            return provider.getBean(this, dryRun);
+        }
+        return null;
+    }
+
+    private void bindDependencies() {
+        for (BeanProvider provider : beanCreators.values()) {
+            provider.bindDependencies(this);
+        }
     }
 
     /**
@@ -391,7 +921,7 @@ public class BeanRepository {
      * @return Providers for all registered {@code singleton} Beans
      */
     public Set<Provider<?>> getProvidersForSingletons() {
-        return providers(SingletonProvider.class, SingletonFactoryProvider.class);
+        return providers(SingletonBeanProvider.class);
     }
 
     /**
@@ -399,7 +929,8 @@ public class BeanRepository {
      * @return Providers for all registered {@code prototype} Beans
      */
     public Set<Provider<?>> getProvidersForPrototypes() {
-        return providers(PrototypeProvider.class, PrototypeFactoryProvider.class);
+        return providers(PrototypeProvider.class, PrototypeFactoryProvider.class,
+                AsyncPrototypeFactoryProvider.class);
     }
 
     /**
@@ -427,22 +958,304 @@ public class BeanRepository {
         return accessor;
     }
 
-    void postConstruct(final Object bean) {
-        postConstructor.postConstruct(bean);
+    void postConstruct(final BeanProvider provider, final Object bean) {
+        postConstructor.postConstruct(provider, bean);
     }
 
+    void prototypeCreated(final Object bean) {
+        if (bean != null) {
+            metrics.prototypeCreated(bean.getClass());
+        }
+    }
+
+    RepositoryMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the {@link RepositoryMetrics}, which are registered by
+     *  {@link BeanRepositoryBuilder#enableMetrics(RepositoryMetrics)}, or inherited from the parent Repository.
+     *  Extensions like the {@code ApplicationEventBus} use them to count their own Metrics.
+     *
+     * @return the registered Metrics, or {@link RepositoryMetrics#NOOP} if no Metrics are registered.
+     */
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Executes {@link Factory#createInstance()} for the Bean of the given Provider.
+     */
+    Object createInstance(final BeanProvider provider, final Factory factory) {
+        final FlightRecorderEvents events = flightRecorderEvents;
+        if (events == null) {
+            return factory.createInstance();
+        }
+        return events.creation(provider, factory::createInstance);
+    }
+
+    /**
+     * @return the Emitter of the Events for the Java Flight Recorder, or {@code null} if it is not enabled.
+     */
+    FlightRecorderEvents flightRecorderEvents() {
+        return flightRecorderEvents;
+    }
+
+    /**
+     * Returns the Emitter of the Events for the Java Flight Recorder, if it is enabled by
+     *  {@link BeanRepositoryBuilder#enableFlightRecorderEvents(Duration)}. This is a Service Provider Interface for
+     *  Extensions like the {@code ApplicationEventBus}, which emit their own Events. It is not intended to be used
+     *  by Applications, and may change in any Release.
+     *
+     * @return the Emitter of the Events, or an empty Optional if the Events are not enabled.
+     */
+    public Optional<FlightRecorderEvents> getFlightRecorderEvents() {
+        return Optional.ofNullable(flightRecorderEvents);
+    }
+
+    /**
+     * Validates the declared Dependencies of the Beans without creating any Bean. Every declared Dependency
+     *  has to be registered, and the declared Dependencies must not contain a Cycle.
+     */
+    private void validateDeclaredDependencies() {
+        for (Map.Entry<Class<?>, BeanProvider> entry : beanCreators.entrySet()) {
+            final List<Class<?>> declared = declaredDependencies.get(entry.getValue());
+            if (declared == null) {
+                continue;
+            }
+            for (Class<?> dependency : declared) {
+                final BeanProvider provider = lookup(dependency);
+                if (provider == null) {
+                    throw new RuntimeException("No Bean registered for Class " + dependency.getName()
+                            + ", which is required by " + entry.getKey().getName());
+                }
+                dependencies.declare(entry.getValue(), provider);
+            }
+        }
+
+        final List<List<BeanProvider>> cycles = dependencies.findCycles(beanCreators.values());
+        if (!cycles.isEmpty()) {
+            throw cyclicReference(cycles.get(0));
+        }
+    }
+
+    IllegalStateException cyclicReference(final List<BeanProvider> cycle) {
+        final List<String> names = new ArrayList<>();
+        for (BeanProvider provider : cycle) {
+            names.add(nameOf(provider));
+        }
+        names.add(names.get(0));
+        return new IllegalStateException("Cyclic Reference between Beans: " + String.join(" -> ", names));
+    }
+
+    String nameOf(final BeanProvider provider) {
+        for (Map.Entry<Class<?>, BeanProvider> entry : beanCreators.entrySet()) {
+            if (entry.getValue() == provider) {
+                return entry.getKey().getName();
+            }
+        }
+        return parent
+                .map(parent -> parent.nameOf(provider))
+                .orElse(provider.toString());
+    }
+
+    /**
+     * Executes the Creator of a Bean. While a single pass Build, the Creator is tracked by the
+     *  {@link CreationStack}, to detect cyclic References without a dry run.
+     */
+    <T> T construct(final BeanProvider provider, final Function<BeanAccessor, T> creator) {
+        final FlightRecorderEvents events = flightRecorderEvents;
+        if (events != null && !dryRun.isDryRun()) {
+            return events.creation(provider, () -> executeCreator(provider, creator));
+        }
+        return executeCreator(provider, creator);
+    }
+
+    private <T> T executeCreator(final BeanProvider provider, final Function<BeanAccessor, T> creator) {
+        final CreationStack stack = creationStack;
+        if (stack == null) {
+            return creator.apply(accessor);
+        }
+        return stack.construct(provider, creator, accessor);
+    }
+
+    /**
+     * The dry run creates only the Beans, whose Dependencies are not declared. Beans with declared Dependencies
+     *  are already validated, and are only created while the dry run if an other Bean requests them.
+     */
     private void executeDryRun() {
-        dryRun.execute(() -> {
+        dryRun.execute(() -> dependencies.record(() -> {
             for (BeanProvider beanProvider : beanCreators.values()) {
-                beanProvider.getBean(this, dryRun);
+                if (!declaredDependencies.containsKey(beanProvider)) {
+                    resolveDependency(beanProvider);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Creates all {@code singleton} Beans once, while cyclic References are detected by the
+     *  {@link CreationStack}. Afterwards the dry run is only executed for the remaining Beans, whose
+     *  Dependencies are not declared. These Beans get the already created {@code singleton} Beans, so
+     *  no {@code singleton} Bean is created twice.
+     */
+    private void buildInSinglePass(final List<SingletonBeanProvider> eagerSingletons) {
+        creationStack = new CreationStack(this);
+        try {
+            dependencies.record(() -> {
+                for (SingletonBeanProvider singleton : eagerSingletons) {
+                    if (singleton instanceof AsyncSingletonFactoryProvider) {
+                        dependencies.resolve(singleton, () -> ((AsyncSingletonFactoryProvider) singleton).start(this));
+                    }
+                }
+                for (SingletonBeanProvider singleton : eagerSingletons) {
+                    if (!(singleton instanceof AsyncSingletonFactoryProvider)) {
+                        dependencies.resolve(singleton, () -> singleton.getBean(this, dryRun));
+                    }
+                }
+            });
+            executeDryRun();
+        }
+        finally {
+            creationStack = null;
+        }
+    }
+
+    private void initialiseSingletonBeans(final List<SingletonBeanProvider> eagerSingletons) {
+        for (SingletonBeanProvider singleton : eagerSingletons) {
+            if (!(singleton instanceof AsyncSingletonFactoryProvider)) {
+                singleton.getBean(this, dryRun);
+            }
+        }
+    }
+
+    private void initialiseSingletonBeans(final List<SingletonBeanProvider> eagerSingletons, final Executor executor,
+            final int parallelism) {
+        final List<SingletonBeanProvider> singletons = new ArrayList<>();
+        for (SingletonBeanProvider singleton : dependencies.sortSingletons(eagerSingletons)) {
+            if (!(singleton instanceof AsyncSingletonFactoryProvider)) {
+                singletons.add(singleton);
+            }
+        }
+        new ParallelSingletonInitialiser(this, dryRun, executor, parallelism).initialise(singletons, dependencies);
+    }
+
+    /**
+     * Initialises the given {@code singleton} Beans and the Beans they depend on in the Background, or all eager
+     *  {@code singleton} Beans of this Repository, if no Bean is given.
+     */
+    private void initialiseSingletonBeansInBackground(final List<SingletonBeanProvider> eagerSingletons,
+            final Executor executor, final List<Class<?>> beans) {
+        final List<SingletonBeanProvider> singletons = new ArrayList<>();
+        if (beans.isEmpty()) {
+            singletons.addAll(eagerSingletons);
+        }
+        for (Class<?> cls : beans) {
+            final BeanProvider provider = beanCreators.get(cls);
+            if (!(provider instanceof SingletonBeanProvider)) {
+                throw new IllegalArgumentException("No singleton Bean registered for Class " + cls.getName());
+            }
+            singletons.add((SingletonBeanProvider) provider);
+        }
+        backgroundInitialisation = new BackgroundSingletonInitialiser(this, dryRun, executor)
+                .initialise(dependencies.sortSingletons(singletons));
+    }
+
+    /**
+     * Returns the Initialisation of the {@code singleton} Beans in the Background, which is enabled by
+     *  {@link BeanRepositoryBuilder#enableBackgroundSingletonInitialisation(Executor, Class[])}. A Bean can be
+     *  requested at any Time: if it is created in the Background at this Moment, the Request waits for this
+     *  Creation. Use the Result to wait until the Repository is warmed up, e.g. before a Readiness Check
+     *  succeeds.
+     *
+     * @return a Future which completes when all Beans are initialised in the Background, or exceptionally with
+     *  the first Failure. Already completed if the Background Initialisation is not enabled.
+     */
+    public CompletableFuture<Void> getBackgroundInitialisation() {
+        return backgroundInitialisation;
+    }
+
+    /**
+     * Starts the Creation of all {@code singleton} Beans which are created by an {@link AsyncFactory}, before
+     *  the other {@code singleton} Beans are initialised. So all asynchronous Creations run concurrently.
+     */
+    private void startAsyncSingletonBeans(final List<SingletonBeanProvider> eagerSingletons) {
+        for (SingletonBeanProvider singleton : eagerSingletons) {
+            if (singleton instanceof AsyncSingletonFactoryProvider) {
+                ((AsyncSingletonFactoryProvider) singleton).start(this);
+            }
+        }
+    }
+
+    /**
+     * Waits until all asynchronous Creations of {@code singleton} Beans are finished. If Creations fail, the first
+     *  Failure is thrown, with all other Failures as suppressed Exceptions.
+     */
+    private void awaitAsyncSingletonBeans(final List<SingletonBeanProvider> eagerSingletons) {
+        RuntimeException failure = null;
+        for (SingletonBeanProvider singleton : eagerSingletons) {
+            if (!(singleton instanceof AsyncSingletonFactoryProvider)) {
+                continue;
             }
-        });
+            try {
+                singleton.getBean(this, dryRun);
+            }
+            catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+                else if (failure != ex) {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the {@code singleton} Beans of this Repository, which are initialised when the Repository is built,
+     *  sorted by their Init Priority. Beans with the same Priority keep the Order of their Registration.
+     */
+    private List<SingletonBeanProvider> eagerSingletons(final boolean lazyByDefault,
+            final Map<BeanProvider, Boolean> lazyInitialisations, final Map<BeanProvider, Integer> initPriorities) {
+        final List<SingletonBeanProvider> eager = new ArrayList<>();
+        for (SingletonBeanProvider singleton : ownSingletons()) {
+            if (!lazyInitialisations.getOrDefault(singleton, lazyByDefault)) {
+                eager.add(singleton);
+            }
+        }
+        if (!initPriorities.isEmpty()) {
+            eager.sort((first, second) -> Integer.compare(
+                    initPriorities.getOrDefault(second, 0), initPriorities.getOrDefault(first, 0)));
+        }
+        return eager;
+    }
+
+    String name() {
+        return name;
+    }
+
+    int parentDepth() {
+        return parent.map(parent -> parent.parentDepth() + 1).orElse(0);
     }
 
-    private void initialiseSingletonBeans() {
-        for (Provider<?> singletonProvider : providers(SingletonProvider.class, SingletonFactoryProvider.class)) {
-            singletonProvider.get();
+    /**
+     * @return the Beans which are registered in this Repository, without the Beans of parent Repositories.
+     */
+    Map<Class<?>, BeanProvider> ownBeans() {
+        return Collections.unmodifiableMap(beanCreators);
+    }
+
+    private List<SingletonBeanProvider> ownSingletons() {
+        final List<SingletonBeanProvider> singletons = new ArrayList<>();
+        for (BeanProvider provider : beanCreators.values()) {
+            if (provider instanceof SingletonBeanProvider) {
+                singletons.add((SingletonBeanProvider) provider);
+            }
         }
+        return singletons;
     }
 
     @Override public String toString() {
@@ -459,9 +1272,24 @@ public class BeanRepository {
 
         private final String name;
         private final BeanRepository parentRepository;
-        private final Map<Class<?>, BeanProvider> beanCreators = new HashMap<>();
+        private final Map<Class<?>, BeanProvider> beanCreators = new LinkedHashMap<>();
         private final Map<Class<?>, Class<?>> aliases = new HashMap<>();
+        private final Map<BeanProvider, List<Class<?>>> declaredDependencies = new IdentityHashMap<>();
+        private final Map<BeanProvider, Boolean> lazyInitialisations = new IdentityHashMap<>();
+        private final Map<BeanProvider, Integer> initPriorities = new IdentityHashMap<>();
         private boolean lazySingletonBeans = false;
+        private boolean singlePassBuild = false;
+        private Executor singletonInitialisationExecutor;
+        private int singletonInitialisationParallelism;
+        private Duration disposalDeadline = DEFAULT_DISPOSAL_TIMEOUT;
+        private Duration disposalBeanTimeout = DEFAULT_DISPOSAL_TIMEOUT;
+        private int disposalParallelism = Runtime.getRuntime().availableProcessors();
+        private Executor backgroundInitialisationExecutor;
+        private List<Class<?>> backgroundInitialisationBeans = Collections.emptyList();
+        private boolean startupReport = false;
+        private Duration slowLookupThreshold;
+        private RepositoryMetrics metrics;
+        private boolean jmx = false;
 
         /**
          * Creates a new Builder for a {@link BeanRepository}.
@@ -475,41 +1303,212 @@ public class BeanRepository {
         }
 
         /**
-         * Creates a new Builder for a {@link BeanRepository}.
+         * Creates a new Builder for a {@link BeanRepository}.
+         *
+         * @param name    The optional name for the constructed {@link BeanRepository}.
+         */
+        public BeanRepositoryBuilder(final String name) {
+            this(name, null);
+        }
+
+        /**
+         * Creates a new Builder for a {@link BeanRepository} with a parent BeanDirectory.
+         *
+         * @param parentRepository  The parent BeanDirectory.
+         */
+        public BeanRepositoryBuilder(final BeanRepository parentRepository) {
+            this(null, parentRepository);
+        }
+
+        /**
+         * Creates a new Builder for a {@link BeanRepository}.
+         */
+        public BeanRepositoryBuilder() {
+            this(null, null);
+        }
+
+        /**
+         * Defines if beans of scope {@code singleton} are initialised when the {@code BeanRepository} is built.
+         *  This can be overridden for single Beans, see {@link BeanRepositoryBuilder#lazySingletons(Class[])} and
+         *  {@link BeanRepositoryBuilder#eagerSingletons(Class[])}.
+         *
+         * @param lazySingletonBeans {@code true} if singleton beans should be initialised when requested,
+         *                                       otherwise {@code false}. Default is {@code false}, so that
+         *                                       singleton beans are created when,
+         *                                       {@code BeanRepositoryBuilder.build()} is called.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableLazySingletonBeans(final boolean lazySingletonBeans) {
+            this.lazySingletonBeans = lazySingletonBeans;
+            return this;
+        }
+
+        /**
+         * Defines if beans of scope {@code singleton} are created only once when the {@code BeanRepository}
+         *  is built. By default, every Bean is created in a dry run first, to detect cyclic References, and the
+         *  {@code singleton} Beans are created again afterwards. In a single pass Build, the {@code singleton}
+         *  Beans are created directly, and cyclic References are detected while the Creation: if the Creator of
+         *  a Bean requests the Bean itself, directly or by other Beans, an {@link IllegalStateException} is
+         *  thrown. If lazy singleton beans are enabled, only the eager {@code singleton} Beans are created,
+         *  see {@link #eagerSingletons(Class[])}. Can not be combined with parallel singleton initialisation.
+         *
+         * @param singlePassBuild {@code true} if every singleton bean should be created only once while
+         *                                     {@code BeanRepositoryBuilder.build()}, otherwise {@code false}.
+         *                                     Default is {@code false}.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableSinglePassBuild(final boolean singlePassBuild) {
+            this.singlePassBuild = singlePassBuild;
+            return this;
+        }
+
+        /**
+         * Defines that beans of scope {@code singleton} are initialised in parallel when the {@code BeanRepository}
+         *  is built. The Beans are initialised in the Order of their Dependencies: a Bean is constructed as soon
+         *  as all Beans, which are requested in the Constructor of the Bean, are available. Independent Beans are
+         *  constructed at the same Time. The Method {@link PostConstructible#onPostConstruct(BeanRepository)} is
+         *  always executed by the Thread which calls {@code BeanRepositoryBuilder.build()}, in the same Order for
+         *  every Build. If the Creation of a Bean fails, the Creation of all other Beans is cancelled, and the
+         *  Error is thrown by {@code BeanRepositoryBuilder.build()}. Has no Effect if lazy singleton beans are
+         *  enabled.
+         *
+         * @param executor       The {@link Executor} which constructs the Beans.
+         * @param parallelism    The maximum Number of Beans which are constructed at the same Time.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableParallelSingletonInitialisation(final Executor executor,
+                final int parallelism) {
+            Objects.requireNonNull(executor, "executor must not be null");
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be greater than 0, but was " + parallelism);
+            }
+            this.singletonInitialisationExecutor = executor;
+            this.singletonInitialisationParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Defines that beans of scope {@code singleton} are initialised in the Background, after the
+         *  {@code BeanRepository} is built. {@code BeanRepositoryBuilder.build()} returns as soon as the
+         *  Configuration is validated, and a single Task of the {@link Executor} initialises the Beans one after the
+         *  other, in the Order of their Dependencies. A Bean which is requested while it is created in the
+         *  Background is not created twice: the Request waits for this Creation. A Bean which is requested before
+         *  the Background Task gets to it is created by the requesting Thread. The Progress is available by
+         *  {@link BeanRepository#getBackgroundInitialisation()}. Lazy singleton beans are not initialised in the
+         *  Background, unless they are given explicitly. Can not be combined with a single pass Build or parallel
+         *  singleton initialisation.
+         *
+         * @param executor    The {@link Executor} which initialises the Beans.
+         * @param beans       The Classes of the {@code singleton} Beans which are initialised in the Background, in
+         *                    this Order. The Beans they depend on are initialised before them. All other Beans
+         *                    are created when requested. If no Class is given, all eager {@code singleton} Beans
+         *                    are initialised in the Background, in the Order of their Init Priority.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableBackgroundSingletonInitialisation(final Executor executor,
+                final Class<?>... beans) {
+            Objects.requireNonNull(executor, "executor must not be null");
+            Objects.requireNonNull(beans, "beans must not be null");
+            this.backgroundInitialisationExecutor = executor;
+            this.backgroundInitialisationBeans = Arrays.asList(beans.clone());
+            return this;
+        }
+
+        /**
+         * Defines if the Timing of the Build is recorded, and is available as {@link StartupReport} by
+         *  {@link BeanRepository#getStartupReport()}. For every Bean, the Wall Time, the CPU Time and the Thread
+         *  of its Creation are recorded, separately for the dry run, the Construction and
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)}. Without the Report, nothing is recorded.
+         *
+         * @param startupReport {@code true} if the Report is created, otherwise {@code false}. Default is
+         *                                   {@code false}.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableStartupReport(final boolean startupReport) {
+            this.startupReport = startupReport;
+            return this;
+        }
+
+        /**
+         * Defines if a {@link BeanRepositoryMXBean} is registered for the Repository at the platform MBean Server,
+         *  with the Name of the Repository as Key. The MBean is unregistered when the Repository is closed.
+         *
+         * @param jmx    {@code true} if the MBean is registered, otherwise {@code false}. Default is
+         *               {@code false}.
+         * @throws IllegalStateException on {@link #build()}, if a Repository with the same Name is already
+         *                               registered.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder enableJmx(final boolean jmx) {
+            this.jmx = jmx;
+            return this;
+        }
+
+        /**
+         * Registers {@link RepositoryMetrics}, which count the Calls of {@link BeanRepository#getBean(Class)} and
+         *  {@link BeanRepository#getBeansOfType(Class)}, the created {@code prototype} Beans, the Time Threads
+         *  wait for {@code singleton} Beans, and the Events of the {@code ApplicationEventBus}. Without this
+         *  Setting, a child Repository uses the Metrics of its parent, and a Repository without parent uses
+         *  {@link RepositoryMetrics#NOOP}.
          *
-         * @param name    The optional name for the constructed {@link BeanRepository}.
+         * @param metrics    The Metrics, e.g. {@link CountingRepositoryMetrics}.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
          */
-        public BeanRepositoryBuilder(final String name) {
-            this(name, null);
+        public BeanRepositoryBuilder enableMetrics(final RepositoryMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "Metrics must not be null");
+            return this;
         }
 
         /**
-         * Creates a new Builder for a {@link BeanRepository} with a parent BeanDirectory.
+         * Enables Events for the Java Flight Recorder, see {@link FlightRecorderEvents}: the Creation of Beans,
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)}, slow Calls of
+         *  {@link BeanRepository#getBean(Class)} and the Delivery of Events by the {@code ApplicationEventBus}.
+         *  The Events are only emitted while a Recording of them is running. Without this Setting, the only Cost
+         *  on these Paths is a single Check.
          *
-         * @param parentRepository  The parent BeanDirectory.
+         * @param slowLookupThreshold    A Call of {@link BeanRepository#getBean(Class)} which takes at least this
+         *                               Time is emitted as Event. {@link Duration#ZERO} emits every Call.
+         * @throws IllegalStateException on {@link #build()}, if the Java Runtime provides no API for the Flight
+         *                               Recorder, e.g. Java 8.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
          */
-        public BeanRepositoryBuilder(final BeanRepository parentRepository) {
-            this(null, parentRepository);
+        public BeanRepositoryBuilder enableFlightRecorderEvents(final Duration slowLookupThreshold) {
+            Objects.requireNonNull(slowLookupThreshold, "Threshold must not be null");
+            if (slowLookupThreshold.isNegative()) {
+                throw new IllegalArgumentException("Threshold must not be negative");
+            }
+            this.slowLookupThreshold = slowLookupThreshold;
+            return this;
         }
 
         /**
-         * Creates a new Builder for a {@link BeanRepository}.
+         * Defines the Timeouts for the Disposal of the {@code singleton} Beans, when the {@code BeanRepository}
+         *  is closed by {@link BeanRepository#close()}. Default is 30 Seconds for both.
+         *
+         * @param deadline       The maximum Duration of the whole Disposal.
+         * @param beanTimeout    The maximum Duration of the Disposal of a single Bean.
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
          */
-        public BeanRepositoryBuilder() {
-            this(null, null);
+        public BeanRepositoryBuilder enableDisposalTimeouts(final Duration deadline, final Duration beanTimeout) {
+            validateDisposalTimeouts(deadline, beanTimeout);
+            this.disposalDeadline = deadline;
+            this.disposalBeanTimeout = beanTimeout;
+            return this;
         }
 
         /**
-         * Defines if beans of scope {@code singleton} are initialised when the {@code BeanRepository} is built.
+         * Defines the maximum Number of {@code singleton} Beans which are disposed at the same Time, when the
+         *  {@code BeanRepository} is closed. Every Bean is disposed by a Thread of the Repository. Default is the
+         *  Number of available Processors.
          *
-         * @param lazySingletonBeans {@code true} if singleton beans should be initialised when requested,
-         *                                       otherwise {@code false}. Default is {@code false}, so that
-         *                                       singleton beans are created when,
-         *                                       {@code BeanRepositoryBuilder.build()} is called.
+         * @param parallelism    The maximum Number of Beans which are disposed at the same Time.
          * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
          */
-        public BeanRepositoryBuilder enableLazySingletonBeans(final boolean lazySingletonBeans) {
-            this.lazySingletonBeans = lazySingletonBeans;
+        public BeanRepositoryBuilder enableDisposalParallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be greater than 0, but was " + parallelism);
+            }
+            this.disposalParallelism = parallelism;
             return this;
         }
 
@@ -824,6 +1823,43 @@ public class BeanRepository {
             return this;
         }
 
+        /**
+         * Registers an {@link AsyncFactory} for a Bean of {@code singleton} Scope. The Factory by itself is not a
+         *  Bean, but the Object which completes the Result of {@link AsyncFactory#createInstance()} is. The
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed on the Factory Object and
+         *  on the created Bean, if the {@link PostConstructible} Interface is implemented. If the
+         *  {@code singleton} Beans are initialised when the Repository is built, all asynchronous Factories are
+         *  started concurrently, and the Build waits for them at the End.
+         *
+         * @param cls        The Key for the Bean. An Instance of this Class has to be returned by the Factory.
+         * @param creator    The {@link Supplier} which creates an Instance of the Factory
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder singletonAsyncFactory(final Class<T> cls,
+                final Supplier<AsyncFactory<T>> creator) {
+            definition(BeanDefinition.createAsyncFactory(Scope.SINGLETON, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers an {@link AsyncFactory} for a Bean of {@code singleton} Scope. The Factory by itself is not a
+         *  Bean, but the Object which completes the Result of {@link AsyncFactory#createInstance()} is. The
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed on the Factory Object and
+         *  on the created Bean, if the {@link PostConstructible} Interface is implemented. The Function gets a
+         *  {@link BeanAccessor} to the Factory for resolving other Dependencies.
+         *
+         * @param cls        The Key for the Bean. An Instance of this Class has to be returned by the Factory.
+         * @param creator    The {@link Function} which creates an Instance of the Factory
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder singletonAsyncFactory(final Class<T> cls,
+                final Function<BeanAccessor, AsyncFactory<T>> creator) {
+            definition(BeanDefinition.createAsyncFactory(Scope.SINGLETON, cls, creator));
+            return this;
+        }
+
         /**
          * Registers a Bean with the Scope {@code prototype} in the BeanRepository. This Method is used to create
          *  a Bean which has Dependencies to other Beans. Beans of this Scope a created every Time when the
@@ -1133,6 +2169,263 @@ public class BeanRepository {
             return this;
         }
 
+        /**
+         * Registers an {@link AsyncFactory} for a Bean of {@code prototype} Scope. The Factory by itself is not a
+         *  Bean, but the Object which completes the Result of {@link AsyncFactory#createInstance()} is. The
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed on the Factory Object and
+         *  on the created Bean, if the {@link PostConstructible} Interface is implemented.
+         *
+         * @param cls        The Key for the Bean. An Instance of this Class has to be returned by the Factory.
+         * @param creator    The {@link Supplier} which creates an Instance of the Factory
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder prototypeAsyncFactory(final Class<T> cls,
+                final Supplier<AsyncFactory<T>> creator) {
+            definition(BeanDefinition.createAsyncFactory(Scope.PROTOTYPE, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers an {@link AsyncFactory} for a Bean of {@code prototype} Scope. The Factory by itself is not a
+         *  Bean, but the Object which completes the Result of {@link AsyncFactory#createInstance()} is. The
+         *  {@link PostConstructible#onPostConstruct(BeanRepository)} Method is executed on the Factory Object and
+         *  on the created Bean, if the {@link PostConstructible} Interface is implemented. The Function gets a
+         *  {@link BeanAccessor} to the Factory for resolving other Dependencies.
+         *
+         * @param cls        The Key for the Bean. An Instance of this Class has to be returned by the Factory.
+         * @param creator    The {@link Function} which creates an Instance of the Factory
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder prototypeAsyncFactory(final Class<T> cls,
+                final Function<BeanAccessor, AsyncFactory<T>> creator) {
+            definition(BeanDefinition.createAsyncFactory(Scope.PROTOTYPE, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code pooled} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. Beans of this Scope are borrowed from a Pool with
+         *  {@link BeanRepository#borrow(Class)}. The Pool is configured by {@link PoolSettings#DEFAULT}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder pooled(final Class<T> cls, final Function<BeanAccessor, T> creator) {
+            definition(BeanDefinition.create(Scope.POOLED, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code pooled} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. Beans of this Scope are borrowed from a Pool
+         *  with {@link BeanRepository#borrow(Class)}. The Pool is configured by {@link PoolSettings#DEFAULT}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder pooled(final Class<T> cls, final Supplier<T> creator) {
+            definition(BeanDefinition.create(Scope.POOLED, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code pooled} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. Beans of this Scope are borrowed from a Pool with
+         *  {@link BeanRepository#borrow(Class)}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param settings   The Configuration of the Pool
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder pooled(final Class<T> cls, final Function<BeanAccessor, T> creator,
+                final PoolSettings settings) {
+            definition(BeanDefinition.create(Scope.POOLED, cls, creator).withPoolSettings(settings));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code pooled} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. Beans of this Scope are borrowed from a Pool
+         *  with {@link BeanRepository#borrow(Class)}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param settings   The Configuration of the Pool
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder pooled(final Class<T> cls, final Supplier<T> creator,
+                final PoolSettings settings) {
+            definition(BeanDefinition.create(Scope.POOLED, cls, creator).withPoolSettings(settings));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code thread} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. Every Thread gets its own Instance of the Bean.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder threadScoped(final Class<T> cls, final Function<BeanAccessor, T> creator) {
+            definition(BeanDefinition.create(Scope.THREAD, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code thread} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. Every Thread gets its own Instance of the Bean.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder threadScoped(final Class<T> cls, final Supplier<T> creator) {
+            definition(BeanDefinition.create(Scope.THREAD, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code thread} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. Every Thread gets its own Instance of the Bean.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param cleanup    The Hook which is executed when the Instance of a Thread is released
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder threadScoped(final Class<T> cls, final Function<BeanAccessor, T> creator,
+                final Consumer<? super T> cleanup) {
+            definition(BeanDefinition.create(Scope.THREAD, cls, creator).withThreadCleanup(cleanup));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code thread} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. Every Thread gets its own Instance of the Bean.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param cleanup    The Hook which is executed when the Instance of a Thread is released
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder threadScoped(final Class<T> cls, final Supplier<T> creator,
+                final Consumer<? super T> cleanup) {
+            definition(BeanDefinition.create(Scope.THREAD, cls, creator).withThreadCleanup(cleanup));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code striped} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. There is one Instance of the Bean per available
+         *  Processor, and every Thread is assigned to one of them.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder striped(final Class<T> cls, final Function<BeanAccessor, T> creator) {
+            definition(BeanDefinition.create(Scope.STRIPED, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code striped} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. There is one Instance of the Bean per available
+         *  Processor, and every Thread is assigned to one of them.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder striped(final Class<T> cls, final Supplier<T> creator) {
+            definition(BeanDefinition.create(Scope.STRIPED, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code striped} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. Every Thread is assigned to one of the Instances.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param stripes    The Number of Instances of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder striped(final Class<T> cls, final Function<BeanAccessor, T> creator,
+                final int stripes) {
+            definition(BeanDefinition.create(Scope.STRIPED, cls, creator).withStripes(stripes));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code striped} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. Every Thread is assigned to one of the Instances.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param stripes    The Number of Instances of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder striped(final Class<T> cls, final Supplier<T> creator, final int stripes) {
+            definition(BeanDefinition.create(Scope.STRIPED, cls, creator).withStripes(stripes));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code scoped} in the BeanRepository. This Method is used to create
+         *  a Bean which has Dependencies to other Beans. One Instance of the Bean is created per open
+         *  {@link ScopeContext}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Function} which creates an Instance of the Bean. It Provides
+         *                   a {@link BeanAccessor} to get Access to other Beans
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder scoped(final Class<T> cls, final Function<BeanAccessor, T> creator) {
+            definition(BeanDefinition.create(Scope.SCOPED, cls, creator));
+            return this;
+        }
+
+        /**
+         * Registers a Bean with the Scope {@code scoped} in the BeanRepository. This Method is used to create
+         *  a Bean which has <b>no</b> Dependencies to other Beans. One Instance of the Bean is created per open
+         *  {@link ScopeContext}.
+         *
+         * @param cls        The Key for the Bean. Has to be the same Class as the Bean or a super Class of the Bean
+         * @param creator    The {@link Supplier} which creates an Instance of the Bean
+         * @param <T>        The Type of the Bean
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public <T> BeanRepositoryBuilder scoped(final Class<T> cls, final Supplier<T> creator) {
+            definition(BeanDefinition.create(Scope.SCOPED, cls, creator));
+            return this;
+        }
+
         /**
          * Registers a already created Object as Bean. To access a Bean of the Scope {@code instance}, use the Class
          *  of the Object as Key: {@link Object#getClass()}.
@@ -1169,10 +2462,75 @@ public class BeanRepository {
          */
         public <T> BeanRepositoryBuilder definition(final BeanDefinition definition) {
             validateBeanId(definition.getBeanClass());
-            beanCreators.put(definition.getBeanClass(), definition.asBeanProvider(name));
+            final BeanProvider provider = definition.asBeanProvider(name);
+            beanCreators.put(definition.getBeanClass(), provider);
+            final Optional<List<Class<?>>> dependencies = definition.getDependencies();
+            dependencies.ifPresent(declared -> declaredDependencies.put(provider, declared));
+            definition.getLazyInitialisation().ifPresent(lazy -> lazyInitialisations.put(provider, (Boolean) lazy));
+            if (definition.getInitPriority() != 0) {
+                initPriorities.put(provider, definition.getInitPriority());
+            }
+            return this;
+        }
+
+        /**
+         * Defines that the given {@code singleton} Beans are initialised when they are requested the first Time,
+         *  regardless of {@link BeanRepositoryBuilder#enableLazySingletonBeans(boolean)}. Use this for Beans which
+         *  are rarely used, e.g. Admin Tools. A lazy Bean is created anyway if an eager Bean depends on it.
+         *
+         * @param beans    The Classes of already registered {@code singleton} Beans.
+         * @throws IllegalArgumentException if a Class is not registered as {@code singleton} Bean in this Builder.
+         * @see BeanDefinition#withLazyInitialisation(boolean)
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder lazySingletons(final Class<?>... beans) {
+            for (Class<?> cls : beans) {
+                lazyInitialisations.put(singletonProvider(cls), true);
+            }
+            return this;
+        }
+
+        /**
+         * Defines that the given {@code singleton} Beans are initialised when the {@code BeanRepository} is built,
+         *  regardless of {@link BeanRepositoryBuilder#enableLazySingletonBeans(boolean)}. Use this for Beans on the
+         *  critical Path, whose first Request must not pay for their Creation.
+         *
+         * @param beans    The Classes of already registered {@code singleton} Beans.
+         * @throws IllegalArgumentException if a Class is not registered as {@code singleton} Bean in this Builder.
+         * @see BeanDefinition#withLazyInitialisation(boolean)
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder eagerSingletons(final Class<?>... beans) {
+            for (Class<?> cls : beans) {
+                lazyInitialisations.put(singletonProvider(cls), false);
+            }
+            return this;
+        }
+
+        /**
+         * Defines the Priority of a {@code singleton} Bean, which is initialised when the {@code BeanRepository}
+         *  is built. Beans with a higher Priority are initialised first, but always after the Beans they depend
+         *  on. Beans with the same Priority are initialised in the Order of their Registration. Default is 0.
+         *
+         * @param bean        The Class of an already registered {@code singleton} Bean.
+         * @param priority    The Priority of the Bean.
+         * @throws IllegalArgumentException if the Class is not registered as {@code singleton} Bean in this Builder.
+         * @see BeanDefinition#withInitPriority(int)
+         * @return The {@link BeanRepositoryBuilder} to construct other Beans. Part of the fluent API.
+         */
+        public BeanRepositoryBuilder singletonInitPriority(final Class<?> bean, final int priority) {
+            initPriorities.put(singletonProvider(bean), priority);
             return this;
         }
 
+        private BeanProvider singletonProvider(final Class<?> cls) {
+            final BeanProvider provider = beanCreators.get(cls);
+            if (!(provider instanceof SingletonBeanProvider)) {
+                throw new IllegalArgumentException("No singleton Bean registered for Class " + cls.getName());
+            }
+            return provider;
+        }
+
         private void validateBeanId(final Class<?> cls) {
             if (beanCreators.containsKey(cls)) {
                 throw new IllegalArgumentException("There is already a bean of Type: " + cls);
@@ -1198,14 +2556,67 @@ public class BeanRepository {
          * @return a full configured and initialised {@link BeanRepository}
          */
         public BeanRepository build() {
-            final BeanRepository repository = new BeanRepository(name, parentRepository, beanCreators, aliases);
+            final BeanRepository repository = new BeanRepository(this);
+            if (!repository.sharesTables()) {
+                try {
+                    initialise(repository);
+                }
+                finally {
+                    repository.finishStartupReport();
+                }
+            }
+            if (jmx) {
+                repository.mbeanName = BeanRepositoryStatistics.register(repository, name);
+            }
+            return repository;
+        }
+
+        private void initialise(final BeanRepository repository) {
+            repository.validateDeclaredDependencies();
+            final List<SingletonBeanProvider> eagerSingletons = repository.eagerSingletons(lazySingletonBeans,
+                    lazyInitialisations, initPriorities);
+
+            if (singlePassBuild) {
+                if (singletonInitialisationExecutor != null) {
+                    throw new IllegalStateException(
+                            "A single pass build can not be combined with parallel singleton initialisation");
+                }
+                if (backgroundInitialisationExecutor != null) {
+                    throw new IllegalStateException(
+                            "A single pass build can not be combined with background singleton initialisation");
+                }
+                repository.buildInSinglePass(eagerSingletons);
+                repository.awaitAsyncSingletonBeans(eagerSingletons);
+                repository.bindDependencies();
+                return;
+            }
+
             repository.executeDryRun();
 
-            if (!lazySingletonBeans) {
-                repository.initialiseSingletonBeans();
+            if (backgroundInitialisationExecutor != null) {
+                if (singletonInitialisationExecutor != null) {
+                    throw new IllegalStateException("Background singleton initialisation can not be combined with"
+                            + " parallel singleton initialisation");
+                }
+                repository.bindDependencies();
+                repository.initialiseSingletonBeansInBackground(eagerSingletons, backgroundInitialisationExecutor,
+                        backgroundInitialisationBeans);
+                return;
             }
 
-            return repository;
+            if (!eagerSingletons.isEmpty()) {
+                repository.startAsyncSingletonBeans(eagerSingletons);
+                if (singletonInitialisationExecutor != null) {
+                    repository.initialiseSingletonBeans(eagerSingletons, singletonInitialisationExecutor,
+                            singletonInitialisationParallelism);
+                }
+                else {
+                    repository.initialiseSingletonBeans(eagerSingletons);
+                }
+                repository.awaitAsyncSingletonBeans(eagerSingletons);
+            }
+
+            repository.bindDependencies();
         }
     }
 }
@@ -16,7 +16,9 @@ public class BeanRepositoryApplication {
     /**
      * Startup initialisation of the BeanRepository. After the BeanRepository was initialised with
      *  the given configurator classes, a {@link ApplicationStartedEvent} is thrown. Use this event
-     *  as starting point for the code of your application.
+     *  as starting point for the code of your application. When the JVM shuts down, a
+     *  {@link ApplicationShutdownEvent} is thrown, and the BeanRepository is closed afterwards,
+     *  see {@link BeanRepository#close()}.
      *
      * @param args the program arguments
      * @param configurators the configurator classes, which provides the beans to the repository.
@@ -31,7 +33,12 @@ public class BeanRepositoryApplication {
         eventBus.fireEvent(new ApplicationStartedEvent());
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            eventBus.fireEvent(new ApplicationShutdownEvent());
+            try {
+                eventBus.fireEvent(new ApplicationShutdownEvent());
+            }
+            finally {
+                beanRepository.close();
+            }
         }));
     }
 
@@ -0,0 +1,93 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of a running {@link BeanRepository} for JMX, e.g. for {@code jconsole} or {@code jcmd}. The MBean is
+ *  registered by {@link BeanRepository.BeanRepositoryBuilder#enableJmx(boolean)}, with the Name
+ *  {@code com.github.tinosteinort.beanrepository:type=BeanRepository,name=<Name of the Repository>}, and
+ *  unregistered when the Repository is closed. Every Attribute is determined when it is read, without creating
+ *  any Bean.
+ */
+public interface BeanRepositoryMXBean {
+
+    /**
+     * @return the Name of the Repository.
+     */
+    String getName();
+
+    /**
+     * @return the Number of parent Repositories: 0 for a Repository without parent.
+     */
+    int getParentDepth();
+
+    /**
+     * @return the Number of Beans which are registered in this Repository, per {@link Scope}. The Beans of
+     *  parent Repositories are not included.
+     */
+    Map<String, Integer> getBeanCountsByScope();
+
+    /**
+     * @return the Classes of the {@code singleton} Beans of this Repository, which are already created.
+     */
+    List<String> getCreatedSingletons();
+
+    /**
+     * @return the Classes of the {@code singleton} Beans of this Repository, which are not yet created.
+     */
+    List<String> getLazySingletons();
+
+    /**
+     * @return the Time of the Creation of every created {@code singleton} Bean, in ISO-8601 Format.
+     */
+    Map<String, String> getSingletonCreationTimes();
+
+    /**
+     * @return the Number of Listeners per Class of Event, which are registered at the {@code ApplicationEventBus}
+     *  of this Repository. Empty if there is no {@code ApplicationEventBus}, or it is not yet created.
+     */
+    Map<String, Integer> getListenerCountsByEventType();
+
+    /**
+     * @return the Number of Calls of {@link BeanRepository#getBean(Class)} per requested Class. Only available
+     *  with {@link CountingRepositoryMetrics}, otherwise empty.
+     */
+    Map<String, Long> getBeanRequests();
+
+    /**
+     * @return the Number of created {@code prototype} Beans per Class. Only available with
+     *  {@link CountingRepositoryMetrics}, otherwise empty.
+     */
+    Map<String, Long> getPrototypeCreations();
+
+    /**
+     * @return the Number of Calls of {@link BeanRepository#getBeansOfType(Class)} per requested Type. Only
+     *  available with {@link CountingRepositoryMetrics}, otherwise empty.
+     */
+    Map<String, Long> getBeansOfTypeRequests();
+
+    /**
+     * @return the Number of fired Events per Class. Only available with {@link CountingRepositoryMetrics},
+     *  otherwise empty.
+     */
+    Map<String, Long> getPublishedEvents();
+
+    /**
+     * @return the Number of Deliveries of Events to Listeners per Class of Event. Only available with
+     *  {@link CountingRepositoryMetrics}, otherwise empty.
+     */
+    Map<String, Long> getDeliveredEvents();
+
+    /**
+     * @return the Number of Times Threads waited for {@code singleton} Beans in Progress. Only available with
+     *  {@link CountingRepositoryMetrics}, otherwise 0.
+     */
+    long getSingletonInitialisationWaitCount();
+
+    /**
+     * @return the total Time in Milliseconds Threads waited for {@code singleton} Beans in Progress. Only
+     *  available with {@link CountingRepositoryMetrics}, otherwise 0.
+     */
+    long getSingletonInitialisationWaitMillis();
+}
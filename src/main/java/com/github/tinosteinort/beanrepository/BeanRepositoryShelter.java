@@ -16,7 +16,7 @@ class BeanRepositoryShelter implements BeanAccessor {
         this.repository = repository;
     }
     @Override public <R, T extends R> T getBean(final Class<R> cls) {
-        return repository.getBean(cls);
+        return repository.getDependency(cls);
     }
 
     @Override public <T> T getPrototypeBean(Supplier<T> creator) {
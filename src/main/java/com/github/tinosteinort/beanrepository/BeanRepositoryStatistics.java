@@ -0,0 +1,200 @@
+package com.github.tinosteinort.beanrepository;
+
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEvent;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBus;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBusDelegate;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * The {@link BeanRepositoryMXBean} of a {@link BeanRepository}. The Statistics are read from the Repository when
+ *  an Attribute is requested, so the registered MBean costs nothing while the Repository is used.
+ */
+class BeanRepositoryStatistics implements BeanRepositoryMXBean {
+
+    private static final String DOMAIN = "com.github.tinosteinort.beanrepository";
+
+    private final BeanRepository repository;
+
+    BeanRepositoryStatistics(final BeanRepository repository) {
+        this.repository = repository;
+    }
+
+    static ObjectName objectNameOf(final String repositoryName) {
+        try {
+            return new ObjectName(DOMAIN + ":type=BeanRepository,name=" + ObjectName.quote(repositoryName));
+        }
+        catch (MalformedObjectNameException ex) {
+            throw new IllegalArgumentException("Invalid name for JMX: " + repositoryName, ex);
+        }
+    }
+
+    /**
+     * Registers the MBean of the given Repository at the platform {@link MBeanServer}.
+     *
+     * @throws IllegalStateException if a Repository with the same Name is already registered.
+     */
+    static ObjectName register(final BeanRepository repository, final String repositoryName) {
+        final ObjectName objectName = objectNameOf(repositoryName);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new BeanRepositoryStatistics(repository),
+                    objectName);
+            return objectName;
+        }
+        catch (InstanceAlreadyExistsException ex) {
+            throw new IllegalStateException("A BeanRepository with the name '" + repositoryName
+                    + "' is already registered in JMX", ex);
+        }
+        catch (JMException ex) {
+            throw new IllegalStateException("Could not register BeanRepository '" + repositoryName + "' in JMX", ex);
+        }
+    }
+
+    static void unregister(final ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+        catch (InstanceNotFoundException ex) {
+            // Already unregistered by someone else, nothing to do
+        }
+        catch (JMException ex) {
+            throw new IllegalStateException("Could not unregister " + objectName + " from JMX", ex);
+        }
+    }
+
+    @Override public String getName() {
+        return repository.name();
+    }
+
+    @Override public int getParentDepth() {
+        return repository.parentDepth();
+    }
+
+    @Override public Map<String, Integer> getBeanCountsByScope() {
+        final Map<String, Integer> result = new TreeMap<>();
+        for (BeanProvider provider : repository.ownBeans().values()) {
+            result.merge(Scope.of(provider).name(), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    @Override public List<String> getCreatedSingletons() {
+        return singletons(true);
+    }
+
+    @Override public List<String> getLazySingletons() {
+        return singletons(false);
+    }
+
+    private List<String> singletons(final boolean created) {
+        final List<String> result = new ArrayList<>();
+        for (Map.Entry<Class<?>, BeanProvider> entry : repository.ownBeans().entrySet()) {
+            if (entry.getValue() instanceof SingletonBeanProvider
+                    && (((SingletonBeanProvider) entry.getValue()).instance() != null) == created) {
+                result.add(entry.getKey().getName());
+            }
+        }
+        return result;
+    }
+
+    @Override public Map<String, String> getSingletonCreationTimes() {
+        final Map<String, String> result = new TreeMap<>();
+        for (Map.Entry<Class<?>, BeanProvider> entry : repository.ownBeans().entrySet()) {
+            if (entry.getValue() instanceof SingletonBeanProvider) {
+                final long creationTime = ((SingletonBeanProvider) entry.getValue()).creationTime();
+                if (creationTime != 0) {
+                    result.put(entry.getKey().getName(), Instant.ofEpochMilli(creationTime).toString());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override public Map<String, Integer> getListenerCountsByEventType() {
+        final ApplicationEventBus eventBus = createdEventBus();
+        if (eventBus == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Integer> result = new TreeMap<>();
+        for (Map.Entry<Class<? extends ApplicationEvent>, Integer> entry : eventBus.getListenerCounts().entrySet()) {
+            result.put(entry.getKey().getName(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * The {@link ApplicationEventBusDelegate} looks up the Bus behind it on every Call, which would create the Bus
+     *  and all Listeners. So only a Bus which is already created is asked, and the Delegate is skipped.
+     */
+    private ApplicationEventBus createdEventBus() {
+        for (BeanProvider provider : repository.ownBeans().values()) {
+            if (provider instanceof SingletonBeanProvider) {
+                final Object bean = ((SingletonBeanProvider) provider).instance();
+                if (bean instanceof ApplicationEventBus && !(bean instanceof ApplicationEventBusDelegate)) {
+                    return (ApplicationEventBus) bean;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override public Map<String, Long> getBeanRequests() {
+        return counters(CountingRepositoryMetrics::getBeanRequests);
+    }
+
+    @Override public Map<String, Long> getPrototypeCreations() {
+        return counters(CountingRepositoryMetrics::getPrototypeCreations);
+    }
+
+    @Override public Map<String, Long> getBeansOfTypeRequests() {
+        return counters(CountingRepositoryMetrics::getBeansOfTypeRequests);
+    }
+
+    @Override public Map<String, Long> getPublishedEvents() {
+        return counters(CountingRepositoryMetrics::getPublishedEvents);
+    }
+
+    @Override public Map<String, Long> getDeliveredEvents() {
+        return counters(CountingRepositoryMetrics::getDeliveredEvents);
+    }
+
+    @Override public long getSingletonInitialisationWaitCount() {
+        final CountingRepositoryMetrics metrics = countingMetrics();
+        return metrics != null ? metrics.getSingletonInitialisationWaits().getCount() : 0L;
+    }
+
+    @Override public long getSingletonInitialisationWaitMillis() {
+        final CountingRepositoryMetrics metrics = countingMetrics();
+        return metrics != null ? metrics.getSingletonInitialisationWaits().getTotal().toMillis() : 0L;
+    }
+
+    private Map<String, Long> counters(final Function<CountingRepositoryMetrics, Map<Class<?>, Long>> counters) {
+        final CountingRepositoryMetrics metrics = countingMetrics();
+        if (metrics == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<Class<?>, Long> entry : counters.apply(metrics).entrySet()) {
+            result.put(entry.getKey().getName(), entry.getValue());
+        }
+        return result;
+    }
+
+    private CountingRepositoryMetrics countingMetrics() {
+        final RepositoryMetrics metrics = repository.metrics();
+        return metrics instanceof CountingRepositoryMetrics ? (CountingRepositoryMetrics) metrics : null;
+    }
+}
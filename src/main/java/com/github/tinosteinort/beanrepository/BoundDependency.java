@@ -0,0 +1,77 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * A Dependency of a {@code prototype} Bean, which is declared by Constructor Injection. After the
+ *  {@link BeanRepository} is built, the Dependency is bound: an already created {@code singleton} Bean or an
+ *  {@code instance} Bean is bound directly, every other Bean by a {@link BeanHandle}. So the Creation of the
+ *  {@code prototype} Bean needs no Lookup of its Dependencies. If the Bean is requested by an other Repository
+ *  than the bound one, e.g. by a child Repository, the Dependency is looked up as usual.
+ * <p>
+ * A {@code singleton} Bean which is created after the Binding, e.g. a lazy Bean or a Bean which is initialised
+ *  in the Background, is bound directly as soon as it is requested by the Handle. Every Binding is an immutable
+ *  Object, which is published by a single volatile Field, so a Thread sees either no Binding or a complete one.
+ *
+ * @param <T>   The Type of the Dependency
+ */
+class BoundDependency<T> {
+
+    private final Class<T> cls;
+    private volatile Binding<T> binding;
+
+    BoundDependency(final Class<T> cls) {
+        this.cls = cls;
+    }
+
+    void bind(final BeanRepository repository) {
+        binding = new Binding<>(repository.accessor(), repository.handle(cls), repository.createdBean(cls));
+    }
+
+    T get(final BeanAccessor beans) {
+        final Binding<T> bound = binding;
+        if (bound == null || beans != bound.accessor) {
+            return beans.getBean(cls);
+        }
+        if (bound.bean != null) {
+            return bound.bean;
+        }
+        final T resolved = bound.handle.get();
+        if (bound.isPublishedSingleton(resolved)) {
+            binding = new Binding<>(bound.accessor, bound.handle, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * @return the directly bound Bean, or {@code null} if the Dependency is not bound, or bound by a Handle.
+     */
+    T boundBean() {
+        final Binding<T> bound = binding;
+        return bound != null ? bound.bean : null;
+    }
+
+    /**
+     * The Accessor of the bound Repository, and either the Bean itself, or the Handle to it.
+     */
+    private static final class Binding<T> {
+
+        private final BeanAccessor accessor;
+        private final BeanHandle<T> handle;
+        private final T bean;
+
+        Binding(final BeanAccessor accessor, final BeanHandle<T> handle, final T bean) {
+            this.accessor = accessor;
+            this.handle = handle;
+            this.bean = bean;
+        }
+
+        /**
+         * A {@code singleton} Bean which is requested while its own Creation is not yet published, and must not
+         *  be bound.
+         */
+        boolean isPublishedSingleton(final T resolved) {
+            final BeanProvider provider = handle.provider();
+            return provider instanceof SingletonBeanProvider
+                    && ((SingletonBeanProvider) provider).instance() == resolved;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith1ParameterBeanDefinition<T, DEP_1> extends BeanDefinition<T> {
 
     private final ConstructorWith1Parameter<T, DEP_1> ctor1Param;
@@ -13,16 +17,33 @@ class ConstructorWith1ParameterBeanDefinition<T, DEP_1> extends BeanDefinition<T
         this.dependency1 = dependency1;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
                 return new SingletonProvider(repositoryName, beans -> ctor1Param.create(
                         beans.getBean(dependency1)));
             case PROTOTYPE:
-                return new PrototypeProvider(repositoryName, beans -> ctor1Param.create(
-                        beans.getBean(dependency1)));
+                return boundPrototype(repositoryName);
+            case POOLED:
+                return pooled(boundPrototype(repositoryName));
+            case THREAD:
+                return threadScoped(boundPrototype(repositoryName));
+            case STRIPED:
+                return striped(boundPrototype(repositoryName));
+            case SCOPED:
+                return scoped(boundPrototype(repositoryName));
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        return new PrototypeProvider(repositoryName, beans -> ctor1Param.create(
+                bound1.get(beans)), bound1);
+    }
 }
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith1ParameterFactoryBeanDefinition<T, DEP_1> extends BeanDefinition<T> {
 
     private final ConstructorWith1Parameter<Factory<T>, DEP_1> ctor1Param;
@@ -13,16 +17,25 @@ class ConstructorWith1ParameterFactoryBeanDefinition<T, DEP_1> extends BeanDefin
         this.dependency1 = dependency1;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
                 return new SingletonFactoryProvider(repositoryName, beans -> ctor1Param.create(
                         beans.getBean(dependency1)));
             case PROTOTYPE:
-                return new PrototypeFactoryProvider(repositoryName, beans -> ctor1Param.create(
-                        beans.getBean(dependency1)));
+                return boundPrototype(repositoryName);
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        return new PrototypeFactoryProvider(repositoryName, beans -> ctor1Param.create(
+                bound1.get(beans)), bound1);
+    }
 }
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith2ParametersBeanDefinition<T, DEP_1, DEP_2> extends BeanDefinition<T> {
 
     private final ConstructorWith2Parameters<T, DEP_1, DEP_2> ctor2Params;
@@ -16,6 +20,10 @@ class ConstructorWith2ParametersBeanDefinition<T, DEP_1, DEP_2> extends BeanDefi
         this.dependency2 = dependency2;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1, dependency2));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -23,11 +31,25 @@ class ConstructorWith2ParametersBeanDefinition<T, DEP_1, DEP_2> extends BeanDefi
                         beans.getBean(dependency1),
                         beans.getBean(dependency2)));
             case PROTOTYPE:
-                return new PrototypeProvider(repositoryName, beans -> ctor2Params.create(
-                        beans.getBean(dependency1),
-                        beans.getBean(dependency2)));
+                return boundPrototype(repositoryName);
+            case POOLED:
+                return pooled(boundPrototype(repositoryName));
+            case THREAD:
+                return threadScoped(boundPrototype(repositoryName));
+            case STRIPED:
+                return striped(boundPrototype(repositoryName));
+            case SCOPED:
+                return scoped(boundPrototype(repositoryName));
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        final BoundDependency<DEP_2> bound2 = new BoundDependency<>(dependency2);
+        return new PrototypeProvider(repositoryName, beans -> ctor2Params.create(
+                bound1.get(beans),
+                bound2.get(beans)), bound1, bound2);
+    }
 }
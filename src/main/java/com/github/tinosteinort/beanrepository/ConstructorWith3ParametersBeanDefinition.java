@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith3ParametersBeanDefinition<T, DEP_1, DEP_2, DEP_3> extends BeanDefinition<T> {
 
     private final ConstructorWith3Parameters<T, DEP_1, DEP_2, DEP_3> ctor3Params;
@@ -19,6 +23,10 @@ class ConstructorWith3ParametersBeanDefinition<T, DEP_1, DEP_2, DEP_3> extends B
         this.dependency3 = dependency3;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1, dependency2, dependency3));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -27,12 +35,27 @@ class ConstructorWith3ParametersBeanDefinition<T, DEP_1, DEP_2, DEP_3> extends B
                         beans.getBean(dependency2),
                         beans.getBean(dependency3)));
             case PROTOTYPE:
-                return new PrototypeProvider(repositoryName, beans -> ctor3Params.create(
-                        beans.getBean(dependency1),
-                        beans.getBean(dependency2),
-                        beans.getBean(dependency3)));
+                return boundPrototype(repositoryName);
+            case POOLED:
+                return pooled(boundPrototype(repositoryName));
+            case THREAD:
+                return threadScoped(boundPrototype(repositoryName));
+            case STRIPED:
+                return striped(boundPrototype(repositoryName));
+            case SCOPED:
+                return scoped(boundPrototype(repositoryName));
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        final BoundDependency<DEP_2> bound2 = new BoundDependency<>(dependency2);
+        final BoundDependency<DEP_3> bound3 = new BoundDependency<>(dependency3);
+        return new PrototypeProvider(repositoryName, beans -> ctor3Params.create(
+                bound1.get(beans),
+                bound2.get(beans),
+                bound3.get(beans)), bound1, bound2, bound3);
+    }
 }
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith3ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3> extends BeanDefinition<T> {
 
     private final ConstructorWith3Parameters<Factory<T>, DEP_1, DEP_2, DEP_3> ctor3Params;
@@ -20,6 +24,10 @@ class ConstructorWith3ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3> ex
         this.dependency3 = dependency3;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1, dependency2, dependency3));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -28,12 +36,19 @@ class ConstructorWith3ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3> ex
                         beans.getBean(dependency2),
                         beans.getBean(dependency3)));
             case PROTOTYPE:
-                return new PrototypeFactoryProvider(repositoryName, beans -> ctor3Params.create(
-                        beans.getBean(dependency1),
-                        beans.getBean(dependency2),
-                        beans.getBean(dependency3)));
+                return boundPrototype(repositoryName);
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        final BoundDependency<DEP_2> bound2 = new BoundDependency<>(dependency2);
+        final BoundDependency<DEP_3> bound3 = new BoundDependency<>(dependency3);
+        return new PrototypeFactoryProvider(repositoryName, beans -> ctor3Params.create(
+                bound1.get(beans),
+                bound2.get(beans),
+                bound3.get(beans)), bound1, bound2, bound3);
+    }
 }
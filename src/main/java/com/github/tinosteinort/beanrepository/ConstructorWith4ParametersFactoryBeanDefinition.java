@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith4ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DEP_4> extends BeanDefinition<T> {
 
     private final ConstructorWith4Parameters<Factory<T>, DEP_1, DEP_2, DEP_3, DEP_4> ctor4Params;
@@ -23,6 +27,10 @@ class ConstructorWith4ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DE
         this.dependency4 = dependency4;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1, dependency2, dependency3, dependency4));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -32,13 +40,21 @@ class ConstructorWith4ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DE
                         beans.getBean(dependency3),
                         beans.getBean(dependency4)));
             case PROTOTYPE:
-                return new PrototypeFactoryProvider(repositoryName, beans -> ctor4Params.create(
-                        beans.getBean(dependency1),
-                        beans.getBean(dependency2),
-                        beans.getBean(dependency3),
-                        beans.getBean(dependency4)));
+                return boundPrototype(repositoryName);
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        final BoundDependency<DEP_2> bound2 = new BoundDependency<>(dependency2);
+        final BoundDependency<DEP_3> bound3 = new BoundDependency<>(dependency3);
+        final BoundDependency<DEP_4> bound4 = new BoundDependency<>(dependency4);
+        return new PrototypeFactoryProvider(repositoryName, beans -> ctor4Params.create(
+                bound1.get(beans),
+                bound2.get(beans),
+                bound3.get(beans),
+                bound4.get(beans)), bound1, bound2, bound3, bound4);
+    }
 }
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 class ConstructorWith5ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DEP_4, DEP_5> extends BeanDefinition<T> {
 
     private final ConstructorWith5Parameters<Factory<T>, DEP_1, DEP_2, DEP_3, DEP_4, DEP_5> ctor5Params;
@@ -26,6 +30,10 @@ class ConstructorWith5ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DE
         this.dependency5 = dependency5;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Arrays.asList(dependency1, dependency2, dependency3, dependency4, dependency5));
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -36,14 +44,23 @@ class ConstructorWith5ParametersFactoryBeanDefinition<T, DEP_1, DEP_2, DEP_3, DE
                         beans.getBean(dependency4),
                         beans.getBean(dependency5)));
             case PROTOTYPE:
-                return new PrototypeFactoryProvider(repositoryName, beans -> ctor5Params.create(
-                        beans.getBean(dependency1),
-                        beans.getBean(dependency2),
-                        beans.getBean(dependency3),
-                        beans.getBean(dependency4),
-                        beans.getBean(dependency5)));
+                return boundPrototype(repositoryName);
             default:
                 throw new IllegalArgumentException("Scope not supported: " + getScope());
         }
     }
+
+    private BeanProvider boundPrototype(final String repositoryName) {
+        final BoundDependency<DEP_1> bound1 = new BoundDependency<>(dependency1);
+        final BoundDependency<DEP_2> bound2 = new BoundDependency<>(dependency2);
+        final BoundDependency<DEP_3> bound3 = new BoundDependency<>(dependency3);
+        final BoundDependency<DEP_4> bound4 = new BoundDependency<>(dependency4);
+        final BoundDependency<DEP_5> bound5 = new BoundDependency<>(dependency5);
+        return new PrototypeFactoryProvider(repositoryName, beans -> ctor5Params.create(
+                bound1.get(beans),
+                bound2.get(beans),
+                bound3.get(beans),
+                bound4.get(beans),
+                bound5.get(beans)), bound1, bound2, bound3, bound4, bound5);
+    }
 }
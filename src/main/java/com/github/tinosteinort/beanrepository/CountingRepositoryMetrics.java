@@ -0,0 +1,183 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RepositoryMetrics} which counts all Metrics per Class, without any Lock. Every Counter is a
+ *  {@link LongAdder}, so Threads which count the same Metric concurrently do not contend. The Time which Threads
+ *  wait for {@code singleton} Beans is collected in a {@link Histogram}.
+ * <p>
+ * The Counters are read without Synchronisation, so a Snapshot which is taken while the Repository is used may
+ *  be slightly inconsistent.
+ */
+public class CountingRepositoryMetrics implements RepositoryMetrics {
+
+    private final ConcurrentMap<Class<?>, LongAdder> beanRequests = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, LongAdder> prototypeCreations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, LongAdder> beansOfTypeRequests = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, LongAdder> publishedEvents = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, LongAdder> deliveredEvents = new ConcurrentHashMap<>();
+    private final Histogram singletonInitialisationWaits = new Histogram();
+
+    @Override public void beanRequested(final Class<?> cls) {
+        increment(beanRequests, cls);
+    }
+
+    @Override public void prototypeCreated(final Class<?> cls) {
+        increment(prototypeCreations, cls);
+    }
+
+    @Override public void singletonInitialisationAwaited(final Class<?> cls, final long nanos) {
+        singletonInitialisationWaits.record(nanos);
+    }
+
+    @Override public void beansOfTypeRequested(final Class<?> cls) {
+        increment(beansOfTypeRequests, cls);
+    }
+
+    @Override public void eventPublished(final Class<?> eventClass) {
+        increment(publishedEvents, eventClass);
+    }
+
+    @Override public void eventDelivered(final Class<?> eventClass) {
+        increment(deliveredEvents, eventClass);
+    }
+
+    /**
+     * The Counter of a Class is created once, afterwards counting is a Read of the Map and an Increment.
+     */
+    private static void increment(final ConcurrentMap<Class<?>, LongAdder> counters, final Class<?> cls) {
+        LongAdder counter = counters.get(cls);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(cls, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * @return the Number of Calls of {@link BeanRepository#getBean(Class)} per requested Class.
+     */
+    public Map<Class<?>, Long> getBeanRequests() {
+        return snapshot(beanRequests);
+    }
+
+    /**
+     * @return the Number of created {@code prototype} Beans per Class of the Bean.
+     */
+    public Map<Class<?>, Long> getPrototypeCreations() {
+        return snapshot(prototypeCreations);
+    }
+
+    /**
+     * @return the Number of Calls of {@link BeanRepository#getBeansOfType(Class)} per requested Type.
+     */
+    public Map<Class<?>, Long> getBeansOfTypeRequests() {
+        return snapshot(beansOfTypeRequests);
+    }
+
+    /**
+     * @return the Number of Events which are fired by the {@code ApplicationEventBus}, per Class of the Event.
+     */
+    public Map<Class<?>, Long> getPublishedEvents() {
+        return snapshot(publishedEvents);
+    }
+
+    /**
+     * @return the Number of Deliveries of Events to Listeners, per Class of the Event.
+     */
+    public Map<Class<?>, Long> getDeliveredEvents() {
+        return snapshot(deliveredEvents);
+    }
+
+    /**
+     * @return the Times which Threads waited for {@code singleton} Beans, which were initialised by other Threads.
+     */
+    public Histogram getSingletonInitialisationWaits() {
+        return singletonInitialisationWaits;
+    }
+
+    private static Map<Class<?>, Long> snapshot(final ConcurrentMap<Class<?>, LongAdder> counters) {
+        final Map<Class<?>, Long> result = new HashMap<>();
+        for (Map.Entry<Class<?>, LongAdder> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * A lock-free Histogram of Durations. Every Bucket counts the Durations of the same Power of two in
+     *  Nanoseconds, so a Percentile is accurate up to a Factor of two. The first Bucket counts 0 and 1 ns.
+     */
+    public static final class Histogram {
+
+        private static final int BUCKETS = 64;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder total = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(final long nanos) {
+            final long value = Math.max(0L, nanos);
+            buckets[value == 0 ? 0 : BUCKETS - 1 - Long.numberOfLeadingZeros(value)].increment();
+            total.add(value);
+        }
+
+        /**
+         * @return the Number of recorded Durations.
+         */
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        /**
+         * @return the Sum of all recorded Durations.
+         */
+        public Duration getTotal() {
+            return Duration.ofNanos(total.sum());
+        }
+
+        /**
+         * @param percentile    The Percentile, between 0 and 100.
+         * @return the upper Bound of the Bucket which contains the given Percentile of the recorded Durations, or
+         *  {@link Duration#ZERO} if nothing is recorded.
+         */
+        public Duration getPercentile(final double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            final long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            final long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Duration.ofNanos(i >= BUCKETS - 2 ? Long.MAX_VALUE : (1L << (i + 1)) - 1);
+                }
+            }
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+    }
+}
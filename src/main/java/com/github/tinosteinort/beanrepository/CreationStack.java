@@ -0,0 +1,52 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Tracks for every Thread the Beans whose Creator is currently executed. If the Creator of a Bean is executed
+ *  again, while it is already on the Stack of the current Thread, the Bean depends on itself. This is used to
+ *  detect cyclic References while the Beans are really created, so that no dry run is needed.
+ * <p>
+ * Only the Execution of the Creator is tracked, not {@link PostConstructible#onPostConstruct(BeanRepository)}.
+ */
+class CreationStack {
+
+    private final BeanRepository repository;
+    private final ThreadLocal<Deque<BeanProvider>> constructions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    CreationStack(final BeanRepository repository) {
+        this.repository = repository;
+    }
+
+    <T> T construct(final BeanProvider provider, final Function<BeanAccessor, T> creator,
+            final BeanAccessor accessor) {
+        final Deque<BeanProvider> stack = constructions.get();
+        if (stack.contains(provider)) {
+            throw repository.cyclicReference(cycleOf(provider, stack));
+        }
+        stack.push(provider);
+        try {
+            return creator.apply(accessor);
+        }
+        finally {
+            stack.pop();
+        }
+    }
+
+    private List<BeanProvider> cycleOf(final BeanProvider provider, final Deque<BeanProvider> stack) {
+        final List<BeanProvider> cycle = new ArrayList<>();
+        final Iterator<BeanProvider> creationOrder = stack.descendingIterator();
+        while (creationOrder.hasNext()) {
+            final BeanProvider current = creationOrder.next();
+            if (current == provider || !cycle.isEmpty()) {
+                cycle.add(current);
+            }
+        }
+        return cycle;
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The Dependencies between the Beans of a {@link BeanRepository}. Dependencies which are declared in the
+ *  Configuration, e.g. by Constructor Injection, are added without creating any Bean. The Dependencies of
+ *  all other Beans are recorded while the dry run, which is executed when the {@link BeanRepository} is
+ *  built: every Bean which is requested while an other Bean is created, is a Dependency of that Bean. Only
+ *  the Requests of the Thread which builds the {@link BeanRepository} are recorded.
+ */
+class DependencyGraph {
+
+    private final Map<BeanProvider, Set<BeanProvider>> dependencies = new IdentityHashMap<>();
+    private final Deque<BeanProvider> creationPath = new ArrayDeque<>();
+    private Thread recordingThread;
+
+    void record(final Runnable dryRun) {
+        recordingThread = Thread.currentThread();
+        try {
+            dryRun.run();
+        }
+        finally {
+            recordingThread = null;
+        }
+    }
+
+    boolean isRecording() {
+        return recordingThread == Thread.currentThread();
+    }
+
+    void declare(final BeanProvider dependent, final BeanProvider dependency) {
+        dependencies.computeIfAbsent(dependent, key -> new LinkedHashSet<>()).add(dependency);
+    }
+
+    <T> T resolve(final BeanProvider provider, final Supplier<T> creation) {
+        final BeanProvider dependent = creationPath.peek();
+        if (dependent != null) {
+            dependencies.computeIfAbsent(dependent, key -> new LinkedHashSet<>()).add(provider);
+        }
+        creationPath.push(provider);
+        try {
+            return creation.get();
+        }
+        finally {
+            creationPath.pop();
+        }
+    }
+
+    Set<BeanProvider> dependenciesOf(final BeanProvider provider) {
+        return dependencies.getOrDefault(provider, Collections.emptySet());
+    }
+
+    /**
+     * Returns the {@code singleton} Beans which are needed to create the given Bean. Dependencies which are
+     *  not {@code singleton} Beans, e.g. {@code prototype} Beans, are resolved to their own Dependencies.
+     */
+    Set<SingletonBeanProvider> singletonDependenciesOf(final BeanProvider provider) {
+        final Set<SingletonBeanProvider> result = new LinkedHashSet<>();
+        final Set<BeanProvider> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<BeanProvider> pending = new ArrayDeque<>(dependenciesOf(provider));
+        while (!pending.isEmpty()) {
+            final BeanProvider dependency = pending.pop();
+            if (!visited.add(dependency)) {
+                continue;
+            }
+            if (dependency instanceof SingletonBeanProvider) {
+                result.add((SingletonBeanProvider) dependency);
+            }
+            else {
+                pending.addAll(dependenciesOf(dependency));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the given {@code singleton} Beans, so that every Bean is placed after all of its Dependencies.
+     *  Beans without a Relation to each other keep the given Order.
+     */
+    List<SingletonBeanProvider> sortSingletons(final Collection<SingletonBeanProvider> singletons) {
+        final Set<SingletonBeanProvider> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(singletons);
+
+        final Set<SingletonBeanProvider> sorted = new LinkedHashSet<>();
+        for (SingletonBeanProvider singleton : singletons) {
+            addAfterDependencies(singleton, candidates, sorted);
+        }
+        return new ArrayList<>(sorted);
+    }
+
+    private void addAfterDependencies(final SingletonBeanProvider singleton,
+            final Set<SingletonBeanProvider> candidates, final Set<SingletonBeanProvider> sorted) {
+        if (sorted.contains(singleton)) {
+            return;
+        }
+        for (SingletonBeanProvider dependency : singletonDependenciesOf(singleton)) {
+            if (candidates.contains(dependency)) {
+                addAfterDependencies(dependency, candidates, sorted);
+            }
+        }
+        sorted.add(singleton);
+    }
+
+    /**
+     * Finds all Cycles between the given Beans with the Algorithm of Tarjan. Every Cycle is a strongly connected
+     *  Component of the Graph, which contains more than one Bean, or one Bean which depends on itself.
+     *  Dependencies to Beans which are not given, e.g. Beans of a parent Repository, are ignored. The Graph is
+     *  traversed without Recursion, so the Depth of the Dependencies is not limited by the Stack Size.
+     */
+    List<List<BeanProvider>> findCycles(final Collection<? extends BeanProvider> providers) {
+        final Set<BeanProvider> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(providers);
+
+        final Map<BeanProvider, Integer> indices = new IdentityHashMap<>();
+        final Map<BeanProvider, Integer> lowLinks = new IdentityHashMap<>();
+        final Set<BeanProvider> onStack = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<BeanProvider> stack = new ArrayDeque<>();
+        final Deque<Visit> visits = new ArrayDeque<>();
+        final List<List<BeanProvider>> cycles = new ArrayList<>();
+
+        for (BeanProvider root : providers) {
+            if (indices.containsKey(root)) {
+                continue;
+            }
+            visits.push(visit(root, indices, lowLinks, stack, onStack));
+            while (!visits.isEmpty()) {
+                final Visit current = visits.peek();
+                if (current.dependencies.hasNext()) {
+                    final BeanProvider dependency = current.dependencies.next();
+                    if (!candidates.contains(dependency)) {
+                        continue;
+                    }
+                    if (!indices.containsKey(dependency)) {
+                        visits.push(visit(dependency, indices, lowLinks, stack, onStack));
+                    }
+                    else if (onStack.contains(dependency)) {
+                        lowLinks.merge(current.provider, indices.get(dependency), Math::min);
+                    }
+                    continue;
+                }
+
+                visits.pop();
+                final int lowLink = lowLinks.get(current.provider);
+                if (!visits.isEmpty()) {
+                    lowLinks.merge(visits.peek().provider, lowLink, Math::min);
+                }
+                if (lowLink == indices.get(current.provider)) {
+                    final List<BeanProvider> component = new ArrayList<>();
+                    BeanProvider member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(0, member);
+                    } while (member != current.provider);
+
+                    if (component.size() > 1 || dependenciesOf(current.provider).contains(current.provider)) {
+                        cycles.add(component);
+                    }
+                }
+            }
+        }
+        return cycles;
+    }
+
+    private Visit visit(final BeanProvider provider, final Map<BeanProvider, Integer> indices,
+            final Map<BeanProvider, Integer> lowLinks, final Deque<BeanProvider> stack,
+            final Set<BeanProvider> onStack) {
+        final int index = indices.size();
+        indices.put(provider, index);
+        lowLinks.put(provider, index);
+        stack.push(provider);
+        onStack.add(provider);
+        return new Visit(provider, dependenciesOf(provider).iterator());
+    }
+
+    private static final class Visit {
+
+        private final BeanProvider provider;
+        private final Iterator<BeanProvider> dependencies;
+
+        Visit(final BeanProvider provider, final Iterator<BeanProvider> dependencies) {
+            this.provider = provider;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -1,29 +1,41 @@
 package com.github.tinosteinort.beanrepository;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Marks the Code which is executed in a dry run. The dry run is confined to the Thread which executes it:
+ *  while one Thread resolves the Type of a Bean in a dry run, every other Thread still creates real Beans.
+ *  As long as no Thread executes a dry run, {@link #isDryRun()} needs no Access to the Thread local State.
+ */
 class DryRunAware {
 
-    private boolean dryRun = false;
+    private final ThreadLocal<Boolean> dryRun = new ThreadLocal<>();
+    private final AtomicInteger threadsInDryRun = new AtomicInteger();
 
     boolean isDryRun() {
-        return dryRun;
+        return threadsInDryRun.get() > 0 && dryRun.get() != null;
     }
 
     void execute(final Runnable runnable) {
-        final boolean dryRunBefore = dryRun;
-        dryRun = true;
+        if (dryRun.get() != null) {
+            runnable.run();
+            return;
+        }
+        begin();
         try {
             runnable.run();
         }
         finally {
-            dryRun = dryRunBefore;
+            end();
         }
     }
 
     <T> T execute(final Callable<T> callable) {
-        final boolean dryRunBefore = dryRun;
-        dryRun = true;
+        final boolean dryRunBefore = dryRun.get() != null;
+        if (!dryRunBefore) {
+            begin();
+        }
         try {
             try {
                 return callable.call();
@@ -33,7 +45,19 @@ class DryRunAware {
             }
         }
         finally {
-            dryRun = dryRunBefore;
+            if (!dryRunBefore) {
+                end();
+            }
         }
     }
+
+    private void begin() {
+        dryRun.set(Boolean.TRUE);
+        threadsInDryRun.incrementAndGet();
+    }
+
+    private void end() {
+        threadsInDryRun.decrementAndGet();
+        dryRun.remove();
+    }
 }
@@ -0,0 +1,322 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Emits Events of a {@link BeanRepository} to the Java Flight Recorder, if it is enabled by
+ *  {@link BeanRepository.BeanRepositoryBuilder#enableFlightRecorderEvents(Duration)}. Without it, the Repository
+ *  holds no Instance of this Class, and the only Cost is the Check for it.
+ * <p>
+ * The Events are in the Category "Bean Repository":
+ * <ul>
+ *     <li>{@code com.github.tinosteinort.beanrepository.BeanCreation}: The Execution of the Code which is
+ *      registered for a {@code singleton} or {@code prototype} Bean, and {@link Factory#createInstance()}</li>
+ *     <li>{@code com.github.tinosteinort.beanrepository.PostConstruct}: The Execution of
+ *      {@link PostConstructible#onPostConstruct(BeanRepository)}</li>
+ *     <li>{@code com.github.tinosteinort.beanrepository.SlowLookup}: A Call of
+ *      {@link BeanRepository#getBean(Class)} which takes longer than the configured Threshold</li>
+ *     <li>{@code com.github.tinosteinort.beanrepository.EventDelivery}: The Delivery of an
+ *      {@code ApplicationEvent} to a single Listener</li>
+ * </ul>
+ * Every Event has the Duration of the Execution, the Class of the Bean, its Scope and the Name of the Repository.
+ *  The Delivery of an Event has the Class of the Listener and of the Event instead, but no Scope.
+ * <p>
+ * The Library is compiled for Java 8, which has no API for the Flight Recorder. So the Event Types are defined
+ *  at Runtime by {@code jdk.jfr.EventFactory}, which is available since Java 11, and are accessed by constant
+ *  {@link MethodHandle MethodHandles}. An Event Object is only created, and the Time is only measured, while a
+ *  Recording of the Event Type is running.
+ * <p>
+ * This Class is a Service Provider Interface for the Extensions of this Library, like the
+ *  {@code ApplicationEventBus}, which emit their own Events. It is not intended to be used by Applications, and
+ *  may change in any Release.
+ */
+public final class FlightRecorderEvents {
+
+    private static final String CATEGORY = "Bean Repository";
+
+    private final String repositoryName;
+    private final long slowLookupThreshold;
+    private final EventTypes types;
+
+    private FlightRecorderEvents(final String repositoryName, final Duration slowLookupThreshold,
+            final EventTypes types) {
+        this.repositoryName = repositoryName;
+        this.slowLookupThreshold = slowLookupThreshold.toNanos();
+        this.types = types;
+    }
+
+    /**
+     * @throws IllegalStateException if the Java Runtime provides no API for the Flight Recorder.
+     */
+    static FlightRecorderEvents create(final String repositoryName, final Duration slowLookupThreshold) {
+        return new FlightRecorderEvents(repositoryName, slowLookupThreshold, EventTypes.get());
+    }
+
+    /**
+     * @return {@code true} if the Java Runtime provides the API for the Flight Recorder, otherwise {@code false}.
+     */
+    static boolean isAvailable() {
+        try {
+            EventTypes.get();
+            return true;
+        }
+        catch (IllegalStateException ex) {
+            return false;
+        }
+    }
+
+    <T> T creation(final BeanProvider provider, final Supplier<T> creation) {
+        final Object event = types.creation.begin();
+        final T bean = creation.get();
+        if (event != null && bean != null) {
+            types.creation.commit(event, bean.getClass(), scopeOf(provider), repositoryName);
+        }
+        return bean;
+    }
+
+    void postConstruct(final BeanProvider provider, final PostConstructible bean, final BeanRepository repository) {
+        final Object event = types.postConstruct.begin();
+        bean.onPostConstruct(repository);
+        if (event != null) {
+            types.postConstruct.commit(event, bean.getClass(), scopeOf(provider), repositoryName);
+        }
+    }
+
+    /**
+     * Begins the Event of a Call of {@link BeanRepository#getBean(Class)}.
+     *
+     * @return the started Event, or {@code null} if no Recording of the Event is running.
+     */
+    Object beginLookup() {
+        return types.slowLookup.begin();
+    }
+
+    /**
+     * Commits the Event of a Call of {@link BeanRepository#getBean(Class)}, if it took at least the Threshold.
+     *
+     * @param event    The Event, returned by {@link #beginLookup()}.
+     * @param start    The Value of {@link System#nanoTime()} at the Begin of the Call.
+     */
+    void commitLookup(final Object event, final long start, final Class<?> cls, final BeanProvider provider) {
+        if (System.nanoTime() - start >= slowLookupThreshold) {
+            types.slowLookup.commit(event, cls, scopeOf(provider), repositoryName);
+        }
+    }
+
+    /**
+     * Begins the Event of the Delivery of an Event of the {@code ApplicationEventBus} to a single Listener. If no
+     *  Recording of the Event is running, the Listener should be called without any further Call of this Class.
+     *
+     * @return the started Event, or {@code null} if no Recording of the Event is running.
+     */
+    public Object beginEventDelivery() {
+        return types.eventDelivery.begin();
+    }
+
+    /**
+     * Commits the Event of the Delivery of an Event of the {@code ApplicationEventBus} to a single Listener.
+     *
+     * @param event         The Event, returned by {@link #beginEventDelivery()}. Must not be {@code null}.
+     * @param eventClass    The Class of the delivered Event.
+     * @param listener      The Listener, which received the Event.
+     */
+    public void commitEventDelivery(final Object event, final Class<?> eventClass, final Object listener) {
+        types.eventDelivery.commit(event, listener.getClass(), null, repositoryName, eventClass);
+    }
+
+    private static String scopeOf(final BeanProvider provider) {
+        return Scope.of(provider).name();
+    }
+
+    /**
+     * The Event Types are registered once per JVM, and shared by all Repositories.
+     */
+    private static final class EventTypes {
+
+        private static volatile EventTypes instance;
+
+        private final EventType creation;
+        private final EventType postConstruct;
+        private final EventType slowLookup;
+        private final EventType eventDelivery;
+
+        private EventTypes(final Jfr jfr) throws ReflectiveOperationException {
+            creation = jfr.eventType("BeanCreation", "Bean Creation",
+                    "Execution of the Code which creates a Bean");
+            postConstruct = jfr.eventType("PostConstruct", "Post Construct",
+                    "Execution of PostConstructible.onPostConstruct()");
+            slowLookup = jfr.eventType("SlowLookup", "Slow Bean Lookup",
+                    "Call of BeanRepository.getBean() which exceeds the configured Threshold");
+            eventDelivery = jfr.eventType("EventDelivery", "Event Delivery",
+                    "Delivery of an ApplicationEvent to a single Listener", "eventClass", "Event Class");
+        }
+
+        static EventTypes get() {
+            EventTypes types = instance;
+            if (types == null) {
+                synchronized (EventTypes.class) {
+                    types = instance;
+                    if (types == null) {
+                        types = create();
+                        instance = types;
+                    }
+                }
+            }
+            return types;
+        }
+
+        private static EventTypes create() {
+            try {
+                return new EventTypes(new Jfr());
+            }
+            catch (ReflectiveOperationException | LinkageError ex) {
+                throw new IllegalStateException("The Java Flight Recorder API (jdk.jfr) is not available", ex);
+            }
+        }
+    }
+
+    /**
+     * An Event Type, created by {@code jdk.jfr.EventFactory}. Every Event Type has the Fields
+     *  {@code beanClass}, {@code scope} and {@code repository}, optionally followed by one more {@code Class}.
+     * <p>
+     * The Methods of the Events are called by {@code static final} {@link MethodHandle MethodHandles}, which the
+     *  JIT Compiler treats as Constants, like direct Calls. The Class is initialised only if the API of the Flight
+     *  Recorder is available.
+     */
+    private static final class EventType {
+
+        private static final MethodHandle IS_ENABLED = handle("jdk.jfr.EventType", "isEnabled",
+                MethodType.methodType(boolean.class, Object.class));
+        private static final MethodHandle NEW_EVENT = handle("jdk.jfr.EventFactory", "newEvent",
+                MethodType.methodType(Object.class, Object.class));
+        private static final MethodHandle BEGIN = handle("jdk.jfr.Event", "begin",
+                MethodType.methodType(void.class, Object.class));
+        private static final MethodHandle END = handle("jdk.jfr.Event", "end",
+                MethodType.methodType(void.class, Object.class));
+        private static final MethodHandle SET = handle("jdk.jfr.Event", "set",
+                MethodType.methodType(void.class, Object.class, int.class, Object.class));
+        private static final MethodHandle COMMIT = handle("jdk.jfr.Event", "commit",
+                MethodType.methodType(void.class, Object.class));
+
+        private final Object factory;
+        private final Object eventType;
+
+        private EventType(final Object factory, final Jfr jfr) throws ReflectiveOperationException {
+            this.factory = factory;
+            this.eventType = jfr.getEventType.invoke(factory);
+        }
+
+        /**
+         * @return a started Event, or {@code null} if no Recording of this Event Type is running.
+         */
+        Object begin() {
+            try {
+                if (!(boolean) IS_ENABLED.invokeExact(eventType)) {
+                    return null;
+                }
+                final Object event = (Object) NEW_EVENT.invokeExact(factory);
+                BEGIN.invokeExact(event);
+                return event;
+            }
+            catch (RuntimeException | Error ex) {
+                throw ex;
+            }
+            catch (Throwable ex) {
+                throw new IllegalStateException("Could not begin Flight Recorder Event", ex);
+            }
+        }
+
+        void commit(final Object event, final Object... values) {
+            try {
+                END.invokeExact(event);
+                for (int i = 0; i < values.length; i++) {
+                    SET.invokeExact(event, i, values[i]);
+                }
+                COMMIT.invokeExact(event);
+            }
+            catch (RuntimeException | Error ex) {
+                throw ex;
+            }
+            catch (Throwable ex) {
+                throw new IllegalStateException("Could not commit Flight Recorder Event", ex);
+            }
+        }
+
+        /**
+         * @param type    The Type of the Invocation by {@link MethodHandle#invokeExact}: the Receiver and the
+         *                Parameters, with {@code Object} instead of the Classes of the Flight Recorder.
+         * @return a Handle to the given public Method of the Flight Recorder.
+         */
+        private static MethodHandle handle(final String className, final String methodName, final MethodType type) {
+            try {
+                final Method method = Class.forName(className)
+                        .getMethod(methodName, type.dropParameterTypes(0, 1).parameterArray());
+                return MethodHandles.publicLookup().unreflect(method).asType(type);
+            }
+            catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+    }
+
+    /**
+     * The reflective Access to the API of the Flight Recorder.
+     */
+    private static final class Jfr {
+
+        private final Class<? extends Annotation> name = annotation("jdk.jfr.Name");
+        private final Class<? extends Annotation> label = annotation("jdk.jfr.Label");
+        private final Class<? extends Annotation> description = annotation("jdk.jfr.Description");
+        private final Class<? extends Annotation> category = annotation("jdk.jfr.Category");
+        private final Constructor<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement")
+                .getConstructor(Class.class, Object.class);
+        private final Constructor<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor")
+                .getConstructor(Class.class, String.class, List.class);
+        private final Method createFactory = Class.forName("jdk.jfr.EventFactory")
+                .getMethod("create", List.class, List.class);
+        private final Method getEventType = Class.forName("jdk.jfr.EventFactory").getMethod("getEventType");
+
+        private Jfr() throws ReflectiveOperationException {
+        }
+
+        EventType eventType(final String typeName, final String typeLabel, final String typeDescription,
+                final String... additionalClassField) throws ReflectiveOperationException {
+            final List<Object> annotations = Arrays.asList(
+                    annotationElement.newInstance(name, FlightRecorderEvents.class.getPackage().getName() + "."
+                            + typeName),
+                    annotationElement.newInstance(label, typeLabel),
+                    annotationElement.newInstance(description, typeDescription),
+                    annotationElement.newInstance(category, new String[] { CATEGORY }));
+
+            final List<Object> fields = new ArrayList<>();
+            fields.add(field(Class.class, "beanClass", "Bean Class"));
+            fields.add(field(String.class, "scope", "Scope"));
+            fields.add(field(String.class, "repository", "Repository"));
+            if (additionalClassField.length == 2) {
+                fields.add(field(Class.class, additionalClassField[0], additionalClassField[1]));
+            }
+            return new EventType(createFactory.invoke(null, annotations, fields), this);
+        }
+
+        private Object field(final Class<?> type, final String fieldName, final String fieldLabel)
+                throws ReflectiveOperationException {
+            return valueDescriptor.newInstance(type, fieldName,
+                    Arrays.asList(annotationElement.newInstance(label, fieldLabel)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<? extends Annotation> annotation(final String className) throws ClassNotFoundException {
+            return (Class<? extends Annotation>) Class.forName(className);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.function.Function;
+
+class FunctionAsyncFactoryBeanDefinition<T> extends BeanDefinition<T> {
+
+    private final Function<BeanAccessor, AsyncFactory<T>> function;
+
+    FunctionAsyncFactoryBeanDefinition(final Scope scope, final Class<T> beanClass,
+            final Function<BeanAccessor, AsyncFactory<T>> function) {
+        super(scope, beanClass);
+        this.function = function;
+    }
+
+    @Override protected BeanProvider asBeanProvider(final String repositoryName) {
+        switch (getScope()) {
+            case SINGLETON:
+                return new AsyncSingletonFactoryProvider(repositoryName, function::apply);
+            case PROTOTYPE:
+                return new AsyncPrototypeFactoryProvider(repositoryName, function::apply);
+            default:
+                throw  new IllegalArgumentException("Scope not supported: " + getScope());
+        }
+    }
+}
@@ -18,6 +18,14 @@ class FunctionBeanDefinition<T> extends BeanDefinition<T> {
                 return new SingletonProvider(repositoryName, function::apply);
             case PROTOTYPE:
                 return new PrototypeProvider(repositoryName, function::apply);
+            case POOLED:
+                return pooled(new PrototypeProvider(repositoryName, function::apply));
+            case THREAD:
+                return threadScoped(new PrototypeProvider(repositoryName, function::apply));
+            case STRIPED:
+                return striped(new PrototypeProvider(repositoryName, function::apply));
+            case SCOPED:
+                return scoped(new PrototypeProvider(repositoryName, function::apply));
             default:
                 throw  new IllegalArgumentException("Scope not supported: " + getScope());
         }
@@ -1,5 +1,9 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 class InstanceBeanDefinition<T> extends BeanDefinition<T> {
 
     private final T instance;
@@ -9,6 +13,10 @@ class InstanceBeanDefinition<T> extends BeanDefinition<T> {
         this.instance = instance;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Collections.emptyList());
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         return new InstanceProvider(repositoryName, instance);
     }
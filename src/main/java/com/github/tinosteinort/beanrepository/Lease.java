@@ -0,0 +1,48 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * A Bean with the Scope {@link Scope#POOLED}, which is borrowed by {@link BeanRepository#borrow(Class)}. The
+ *  Bean must only be used until the Lease is closed. Closing the Lease returns the Bean to the Pool, so the
+ *  Lease is intended to be used in a {@code try}-with-resources Statement:
+ * <pre>
+ * try (Lease&lt;Parser&gt; parser = repository.borrow(Parser.class)) {
+ *     parser.get().parse(input);
+ * }
+ * </pre>
+ * A Lease is not thread safe. It belongs to the Thread which has borrowed the Bean.
+ *
+ * @param <T>   The Type of the Bean
+ */
+public final class Lease<T> implements AutoCloseable {
+
+    private final PooledBeanProvider pool;
+    private T bean;
+
+    Lease(final PooledBeanProvider pool, final T bean) {
+        this.pool = pool;
+        this.bean = bean;
+    }
+
+    /**
+     * @return the borrowed Bean.
+     * @throws IllegalStateException if the Lease is already closed.
+     */
+    public T get() {
+        final T borrowed = bean;
+        if (borrowed == null) {
+            throw new IllegalStateException("The Lease is already closed");
+        }
+        return borrowed;
+    }
+
+    /**
+     * Returns the Bean to the Pool. Closing an already closed Lease has no Effect.
+     */
+    @Override public void close() {
+        final T borrowed = bean;
+        if (borrowed != null) {
+            bean = null;
+            pool.giveBack(borrowed);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Initialises the {@code singleton} Beans of a {@link BeanRepository} in parallel. The Beans are sorted by
+ *  their Dependencies, and every Bean is constructed by the {@link Executor} as soon as all of its Dependencies
+ *  are available. Not more than {@code parallelism} Beans are constructed at the same Time.
+ * <p>
+ * {@link PostConstructible#onPostConstruct(BeanRepository)} is always executed by the Thread which builds the
+ *  {@link BeanRepository}, in the sorted Order of the Beans. So the Order of the
+ *  {@link PostConstructible#onPostConstruct(BeanRepository)} Calls is the same for every Build, and the
+ *  Dependencies of a Bean are post constructed before the Bean itself is constructed. Only a Bean which is
+ *  requested while the Construction of an other Bean, but is not recorded as its Dependency, is published by
+ *  the requesting Thread, so that Thread does not wait for the Thread which builds the {@link BeanRepository}.
+ * <p>
+ * If the Creation of a Bean fails, no further Bean is constructed, the Constructions in Progress are cancelled
+ *  and the Error is thrown by the Thread which builds the {@link BeanRepository}.
+ */
+class ParallelSingletonInitialiser {
+
+    private final BeanRepository repository;
+    private final DryRunAware dryRun;
+    private final Executor executor;
+    private final int parallelism;
+
+    ParallelSingletonInitialiser(final BeanRepository repository, final DryRunAware dryRun,
+            final Executor executor, final int parallelism) {
+        this.repository = repository;
+        this.dryRun = dryRun;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    void initialise(final List<SingletonBeanProvider> singletons, final DependencyGraph dependencies) {
+        final int count = singletons.size();
+
+        final Map<SingletonBeanProvider, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < count; i++) {
+            indices.put(singletons.get(i), i);
+        }
+
+        final int[] missingDependencies = new int[count];
+        final List<List<Integer>> dependents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < count; i++) {
+            for (SingletonBeanProvider dependency : dependencies.singletonDependenciesOf(singletons.get(i))) {
+                final Integer dependencyIndex = indices.get(dependency);
+                if (dependencyIndex != null) {
+                    missingDependencies[i]++;
+                    dependents.get(dependencyIndex).add(i);
+                }
+            }
+        }
+
+        final PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < count; i++) {
+            if (missingDependencies[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        final BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+        final SingletonBeanProvider.Initialisation[] claims = new SingletonBeanProvider.Initialisation[count];
+        final List<FutureTask<Object>> constructions = new ArrayList<>(Collections.nCopies(count, null));
+        final boolean[] constructed = new boolean[count];
+        int running = 0;
+
+        try {
+            int next = 0;
+            while (next < count) {
+                while (running < parallelism && !ready.isEmpty()) {
+                    final int index = ready.poll();
+                    final SingletonBeanProvider singleton = singletons.get(index);
+                    claims[index] = singleton.claim();
+                    if (claims[index] == null) {
+                        // Already created or in Progress by an other Thread
+                        constructed[index] = true;
+                    }
+                    else {
+                        final FutureTask<Object> construction = construct(singleton, index, finished);
+                        claims[index].constructIn(construction);
+                        constructions.set(index, construction);
+                        running++;
+                        executor.execute(construction);
+                    }
+                }
+
+                if (constructed[next]) {
+                    final SingletonBeanProvider singleton = singletons.get(next);
+                    if (claims[next] != null) {
+                        singleton.publish(repository, claims[next]);
+                    }
+                    else {
+                        singleton.getBean(repository, dryRun);
+                    }
+                    for (int dependent : dependents.get(next)) {
+                        if (--missingDependencies[dependent] == 0) {
+                            ready.add(dependent);
+                        }
+                    }
+                    next++;
+                }
+                else {
+                    final int index = finished.take();
+                    running--;
+                    failOnError(constructions.get(index));
+                    constructed[index] = true;
+                }
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel(singletons, constructions, claims, ex);
+            throw new RuntimeException("Initialisation of singleton beans interrupted", ex);
+        }
+        catch (RuntimeException | Error ex) {
+            cancel(singletons, constructions, claims, ex);
+            throw ex;
+        }
+    }
+
+    private FutureTask<Object> construct(final SingletonBeanProvider singleton, final int index,
+            final BlockingQueue<Integer> finished) {
+        return new FutureTask<Object>(() -> singleton.recordedConstruction(repository)) {
+            @Override protected void done() {
+                finished.add(index);
+            }
+        };
+    }
+
+    private void failOnError(final FutureTask<Object> construction) throws InterruptedException {
+        try {
+            construction.get();
+        }
+        catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private void cancel(final List<SingletonBeanProvider> singletons, final List<FutureTask<Object>> constructions,
+            final SingletonBeanProvider.Initialisation[] claims, final Throwable cause) {
+        for (FutureTask<Object> construction : constructions) {
+            if (construction != null) {
+                construction.cancel(true);
+            }
+        }
+        for (int i = 0; i < claims.length; i++) {
+            if (claims[i] != null) {
+                singletons.get(i).abandon(claims[i], cause);
+            }
+        }
+    }
+}
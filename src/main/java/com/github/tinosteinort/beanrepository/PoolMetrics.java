@@ -0,0 +1,72 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * A Snapshot of the Metrics of the Pool of a Bean with the Scope {@link Scope#POOLED}, returned by
+ *  {@link BeanRepository#getPoolMetrics(Class)}. The Counters are collected without Synchronisation, so a
+ *  Snapshot which is taken while Beans are borrowed may be slightly inconsistent.
+ */
+public final class PoolMetrics {
+
+    private final int idle;
+    private final long created;
+    private final long borrowed;
+    private final long returned;
+    private final long discarded;
+
+    PoolMetrics(final int idle, final long created, final long borrowed, final long returned,
+            final long discarded) {
+        this.idle = idle;
+        this.created = created;
+        this.borrowed = borrowed;
+        this.returned = returned;
+        this.discarded = discarded;
+    }
+
+    /**
+     * @return the Number of Beans which are currently kept by the Pool.
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return the Number of Beans which are currently borrowed.
+     */
+    public long getLeased() {
+        return borrowed - returned;
+    }
+
+    /**
+     * @return the Number of Beans which are created, because the Pool held no idle Bean.
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return the Number of all Leases.
+     */
+    public long getBorrowed() {
+        return borrowed;
+    }
+
+    /**
+     * @return the Number of all closed Leases.
+     */
+    public long getReturned() {
+        return returned;
+    }
+
+    /**
+     * @return the Number of returned Beans, which are not kept, because the Pool was full.
+     */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    @Override public String toString() {
+        return "[" + PoolMetrics.class.getSimpleName() + ": idle=" + idle + ", leased=" + getLeased()
+                + ", created=" + created + ", borrowed=" + borrowed + ", returned=" + returned
+                + ", discarded=" + discarded + "]";
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The Configuration of the Pool of a Bean with the Scope {@link Scope#POOLED}. The Settings are immutable,
+ *  every {@code with...} Method returns new Settings.
+ */
+public final class PoolSettings {
+
+    /**
+     * A Pool with one Slot per available Processor, which keeps all returned Beans, without Thread Affinity, and
+     *  without a Limit of borrowed Beans.
+     */
+    public static final PoolSettings DEFAULT = ofSize(Runtime.getRuntime().availableProcessors());
+
+    private final int size;
+    private final int maxIdle;
+    private final boolean threadAffinity;
+    private final int maxLeased;
+    private final Duration borrowTimeout;
+
+    private PoolSettings(final int size, final int maxIdle, final boolean threadAffinity, final int maxLeased,
+            final Duration borrowTimeout) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The Size of a Pool must be greater than 0, but is " + size);
+        }
+        if (maxIdle < 0 || maxIdle > size) {
+            throw new IllegalArgumentException("The Number of idle Beans must be between 0 and " + size
+                    + ", but is " + maxIdle);
+        }
+        if (maxLeased < 1) {
+            throw new IllegalArgumentException("The Number of borrowed Beans must be greater than 0, but is "
+                    + maxLeased);
+        }
+        Objects.requireNonNull(borrowTimeout, "borrowTimeout must not be null");
+        if (borrowTimeout.isNegative()) {
+            throw new IllegalArgumentException("The Timeout to borrow a Bean must not be negative, but is "
+                    + borrowTimeout);
+        }
+        this.size = size;
+        this.maxIdle = maxIdle;
+        this.threadAffinity = threadAffinity;
+        this.maxLeased = maxLeased;
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    /**
+     * Creates Settings for a Pool with the given Number of Slots. All Slots may hold an idle Bean.
+     *
+     * @param size  The maximum Number of Beans, which are kept by the Pool.
+     * @return the Settings for the Pool.
+     */
+    public static PoolSettings ofSize(final int size) {
+        return new PoolSettings(size, size, false, Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Limits the Number of idle Beans in the Pool. A returned Bean is discarded if the Pool already holds
+     *  this Number of idle Beans.
+     *
+     * @param maxIdle   The maximum Number of idle Beans. Must not be greater than the Size of the Pool.
+     * @return new Settings with the given Limit.
+     */
+    public PoolSettings withMaxIdle(final int maxIdle) {
+        return new PoolSettings(size, maxIdle, threadAffinity, maxLeased, borrowTimeout);
+    }
+
+    /**
+     * With Thread Affinity, every Thread prefers its own Slot of the Pool to borrow and return a Bean. So a
+     *  Thread which borrows Beans repeatedly tends to get the same Bean, and different Threads do not compete
+     *  for the same Slot.
+     *
+     * @param threadAffinity    {@code true} to enable Thread Affinity.
+     * @return new Settings with the given Thread Affinity.
+     */
+    public PoolSettings withThreadAffinity(final boolean threadAffinity) {
+        return new PoolSettings(size, maxIdle, threadAffinity, maxLeased, borrowTimeout);
+    }
+
+    /**
+     * Limits the Number of Beans which are borrowed at the same Time. If this Number of Beans is borrowed,
+     *  {@link BeanRepository#borrow(Class)} waits up to the {@link #withBorrowTimeout(Duration) Timeout} until a
+     *  Bean is returned. If no Bean is returned in Time, the Pool is exhausted, and an
+     *  {@link IllegalStateException} is thrown. Without a Limit, a new Bean is created whenever no idle Bean is
+     *  available.
+     *
+     * @param maxLeased The maximum Number of borrowed Beans. Must be greater than 0.
+     * @return new Settings with the given Limit.
+     */
+    public PoolSettings withMaxLeased(final int maxLeased) {
+        return new PoolSettings(size, maxIdle, threadAffinity, maxLeased, borrowTimeout);
+    }
+
+    /**
+     * The Time {@link BeanRepository#borrow(Class)} waits for a returned Bean, if the
+     *  {@link #withMaxLeased(int) maximum Number} of Beans is borrowed. The Default is {@link Duration#ZERO}, so
+     *  an exhausted Pool fails immediately.
+     *
+     * @param borrowTimeout The Time to wait for a returned Bean. Must not be negative.
+     * @return new Settings with the given Timeout.
+     */
+    public PoolSettings withBorrowTimeout(final Duration borrowTimeout) {
+        return new PoolSettings(size, maxIdle, threadAffinity, maxLeased, borrowTimeout);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    public boolean isThreadAffinity() {
+        return threadAffinity;
+    }
+
+    /**
+     * @return the maximum Number of borrowed Beans, or {@link Integer#MAX_VALUE} if the Number is not limited.
+     */
+    public int getMaxLeased() {
+        return maxLeased;
+    }
+
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    @Override public String toString() {
+        return "[" + PoolSettings.class.getSimpleName() + ": size=" + size + ", maxIdle=" + maxIdle
+                + ", threadAffinity=" + threadAffinity + ", maxLeased=" + maxLeased + ", borrowTimeout="
+                + borrowTimeout + "]";
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provides a Bean with the Scope {@link Scope#POOLED}. The Beans are created by a {@code prototype}
+ *  {@link BeanProvider}, and kept in a fixed Number of Slots. Borrowing and returning a Bean needs no Lock:
+ *  a Slot is taken and filled by Compare-And-Set. If no idle Bean is found, a new Bean is created. If a
+ *  returned Bean finds no free Slot, or the Pool already holds the maximum Number of idle Beans, the Bean is
+ *  discarded.
+ * <p>
+ * Without Thread Affinity the Search starts at the Slot given by the Number of idle Beans. Without Contention
+ *  the idle Beans fill the first Slots, so a Bean is found, and a free Slot for a returned Bean, at the first
+ *  Slot which is checked, and the most recently returned Beans are reused. Concurrent Threads see different
+ *  Numbers of idle Beans, and start at different Slots. With Thread Affinity every Thread starts the Search at
+ *  its own Slot.
+ * <p>
+ * If the Number of borrowed Beans is limited, a Lease is a Permit of a {@link Semaphore}, see
+ *  {@link PoolSettings#withMaxLeased(int)}. Without a Limit, no Semaphore is used.
+ */
+class PooledBeanProvider implements BeanProvider {
+
+    private final BeanProvider prototype;
+    private final AtomicReferenceArray<Object> slots;
+    private final int maxIdle;
+    private final boolean threadAffinity;
+    private final Semaphore leases;
+    private final long borrowTimeout;
+    private final AtomicInteger idle = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder borrowed = new LongAdder();
+    private final LongAdder returned = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    PooledBeanProvider(final BeanProvider prototype, final PoolSettings settings) {
+        this.prototype = prototype;
+        this.slots = new AtomicReferenceArray<>(settings.getSize());
+        this.maxIdle = settings.getMaxIdle();
+        this.threadAffinity = settings.isThreadAffinity();
+        this.leases = settings.getMaxLeased() < Integer.MAX_VALUE ? new Semaphore(settings.getMaxLeased()) : null;
+        this.borrowTimeout = settings.getBorrowTimeout().toNanos();
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.getBean(repository, dryRun);
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.resolveBeanType(repository, dryRun);
+    }
+
+    @Override public String getRepositoryId() {
+        return prototype.getRepositoryId();
+    }
+
+    @Override public void bindDependencies(final BeanRepository repository) {
+        prototype.bindDependencies(repository);
+    }
+
+    <T> Lease<T> borrow(final BeanRepository repository, final DryRunAware dryRun) {
+        if (leases != null) {
+            acquireLease();
+        }
+        try {
+            T bean = (T) poll();
+            if (bean == null) {
+                bean = prototype.getBean(repository, dryRun);
+                created.increment();
+            }
+            borrowed.increment();
+            return new Lease<>(this, bean);
+        }
+        catch (RuntimeException | Error ex) {
+            if (leases != null) {
+                leases.release();
+            }
+            throw ex;
+        }
+    }
+
+    private void acquireLease() {
+        try {
+            if (!leases.tryAcquire(borrowTimeout, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("The Pool is exhausted: no Bean was returned within "
+                        + TimeUnit.NANOSECONDS.toMillis(borrowTimeout) + " ms");
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a Bean of the Pool", ex);
+        }
+    }
+
+    void giveBack(final Object bean) {
+        returned.increment();
+        if (!offer(bean)) {
+            discarded.increment();
+        }
+        if (leases != null) {
+            leases.release();
+        }
+    }
+
+    PoolMetrics metrics() {
+        return new PoolMetrics(idle.get(), created.sum(), borrowed.sum(), returned.sum(), discarded.sum());
+    }
+
+    private Object poll() {
+        final int idleBeans = idle.get();
+        if (idleBeans == 0) {
+            return null;
+        }
+        final int size = slots.length();
+        final int start = startIndex(size, idleBeans - 1);
+        for (int i = 0; i < size; i++) {
+            final int index = (start + i) % size;
+            final Object bean = slots.get(index);
+            if (bean != null && slots.compareAndSet(index, bean, null)) {
+                idle.decrementAndGet();
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The idle Counter is incremented before a Slot is filled, so the Pool never holds more than the maximum
+     *  Number of idle Beans.
+     */
+    private boolean offer(final Object bean) {
+        int current;
+        do {
+            current = idle.get();
+            if (current >= maxIdle) {
+                return false;
+            }
+        }
+        while (!idle.compareAndSet(current, current + 1));
+
+        final int size = slots.length();
+        final int start = startIndex(size, current);
+        for (int i = 0; i < size; i++) {
+            final int index = (start + i) % size;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, bean)) {
+                return true;
+            }
+        }
+        idle.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * @param slot  The Slot to start with, if there is no Thread Affinity: the last Slot of the idle Beans for
+     *              a Search of an idle Bean, the first Slot after them for a Search of a free Slot.
+     */
+    private int startIndex(final int size, final int slot) {
+        if (threadAffinity) {
+            return (int) (Thread.currentThread().getId() % size);
+        }
+        return slot % size;
+    }
+}
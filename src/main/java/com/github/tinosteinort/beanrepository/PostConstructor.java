@@ -2,15 +2,37 @@ package com.github.tinosteinort.beanrepository;
 
 class PostConstructor {
 
+    /**
+     * Caches per Class whether {@link PostConstructible} is implemented. An {@code instanceof} Check against an
+     *  Interface is resolved by the JVM with the secondary Super Types of the Class, which is slow if many
+     *  different Classes are checked by many Threads. The cached Value is a single Lookup for the Class.
+     */
+    private static final ClassValue<Boolean> POST_CONSTRUCTIBLE = new ClassValue<Boolean>() {
+        @Override protected Boolean computeValue(final Class<?> type) {
+            return PostConstructible.class.isAssignableFrom(type);
+        }
+    };
+
     private final BeanRepository repository;
 
     public PostConstructor(final BeanRepository repository) {
         this.repository = repository;
     }
 
-    public void postConstruct(final Object bean) {
-        if (bean instanceof PostConstructible) {
-            ((PostConstructible) bean).onPostConstruct(repository);
+    /**
+     * @param provider    The Provider of the Bean, or {@code null} if the Bean is created by
+     *                    {@code BeanRepository.getPrototypeBean(...)}.
+     * @param bean        The created Bean.
+     */
+    public void postConstruct(final BeanProvider provider, final Object bean) {
+        if (bean != null && POST_CONSTRUCTIBLE.get(bean.getClass())) {
+            final FlightRecorderEvents events = repository.flightRecorderEvents();
+            if (events == null) {
+                ((PostConstructible) bean).onPostConstruct(repository);
+            }
+            else {
+                events.postConstruct(provider, (PostConstructible) bean, repository);
+            }
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * This Class provides a Method to execute Code before a Bean is discarded.
+ */
+@FunctionalInterface
+public interface PreDestroyable {
+
+    /**
+     * This Method is called when the {@link BeanRepository} is closed, for every created {@code singleton} Bean,
+     *  and when a {@link ScopeContext} is closed, for every {@code scoped} Bean of the Context. A Bean is disposed
+     *  before all Beans it depends on. For Beans of the Scope {@code instance} this Method is never executed,
+     *  because the Instance is created outside of the {@link BeanRepository}. If the Bean also implements
+     *  {@link AutoCloseable}, this Method is executed before {@link AutoCloseable#close()}.
+     */
+    void onPreDestroy();
+}
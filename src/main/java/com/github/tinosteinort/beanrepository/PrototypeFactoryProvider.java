@@ -6,27 +6,31 @@ class PrototypeFactoryProvider implements BeanProvider {
 
     private final String repositoryId;
     private final Function<BeanAccessor, Factory> creator;
+    private final BoundDependency<?>[] dependencies;
 
-    PrototypeFactoryProvider(final String repositoryId, final Function<BeanAccessor, Factory> creator) {
+    PrototypeFactoryProvider(final String repositoryId, final Function<BeanAccessor, Factory> creator,
+            final BoundDependency<?>... dependencies) {
         this.repositoryId = repositoryId;
         this.creator = creator;
+        this.dependencies = dependencies;
     }
 
     @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
         if (dryRun.isDryRun()) {
             // This call is only needed to detect cyclic dependencies on dryRun.
-            creator.apply(repository.accessor());
+            repository.construct(this, creator);
 
             // In case of a dry run, whether the postConstruct() method nor the createInstance()
             //  method of the factory must not be called. So we can just return NULL.
             return null;
         }
 
-        final Factory factory = creator.apply(repository.accessor());
-        repository.postConstruct(factory);
+        final Factory factory = repository.construct(this, creator);
+        repository.postConstruct(this, factory);
 
-        final Object beanInstance = factory.createInstance();
-        repository.postConstruct(beanInstance);
+        final Object beanInstance = repository.createInstance(this, factory);
+        repository.prototypeCreated(beanInstance);
+        repository.postConstruct(this, beanInstance);
 
         return (T) beanInstance;
     }
@@ -35,6 +39,12 @@ class PrototypeFactoryProvider implements BeanProvider {
         return repositoryId;
     }
 
+    @Override public void bindDependencies(final BeanRepository repository) {
+        for (BoundDependency<?> dependency : dependencies) {
+            dependency.bind(repository);
+        }
+    }
+
     @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
         return dryRun.execute(() -> {
             final Factory tempFactory = creator.apply(repository.accessor());
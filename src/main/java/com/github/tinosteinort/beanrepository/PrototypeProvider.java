@@ -6,16 +6,20 @@ class PrototypeProvider implements BeanProvider {
 
     private final String repositoryId;
     private final Function<BeanAccessor, ?> creator;
+    private final BoundDependency<?>[] dependencies;
 
-    PrototypeProvider(final String repositoryId, final Function<BeanAccessor, ?> creator) {
+    PrototypeProvider(final String repositoryId, final Function<BeanAccessor, ?> creator,
+            final BoundDependency<?>... dependencies) {
         this.repositoryId = repositoryId;
         this.creator = creator;
+        this.dependencies = dependencies;
     }
 
     @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
-        final Object instance = creator.apply(repository.accessor());
+        final Object instance = repository.construct(this, creator);
         if (!dryRun.isDryRun()) {
-            repository.postConstruct(instance);
+            repository.prototypeCreated(instance);
+            repository.postConstruct(this, instance);
         }
         return (T) instance;
     }
@@ -24,6 +28,12 @@ class PrototypeProvider implements BeanProvider {
         return repositoryId;
     }
 
+    @Override public void bindDependencies(final BeanRepository repository) {
+        for (BoundDependency<?> dependency : dependencies) {
+            dependency.bind(repository);
+        }
+    }
+
     @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
         return dryRun.execute(() -> {
             final Object tempInstance = creator.apply(repository.accessor());
@@ -0,0 +1,69 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * Receives the Metrics of the hot Paths of a {@link BeanRepository}, if it is registered by
+ *  {@link BeanRepository.BeanRepositoryBuilder#enableMetrics(RepositoryMetrics)}. All Methods do nothing by
+ *  default, so an Implementation only overrides the Metrics it is interested in. The Methods are called by the
+ *  Threads which use the Repository, and must not block.
+ * <p>
+ * Without registered Metrics, the Repository uses {@link #NOOP}. As long as no other Implementation is used in
+ *  the JVM, the Calls are inlined and eliminated by the JIT Compiler. {@link CountingRepositoryMetrics} is a
+ *  lock-free Implementation, which counts all Metrics.
+ */
+public interface RepositoryMetrics {
+
+    /**
+     * The Implementation which ignores all Metrics.
+     */
+    RepositoryMetrics NOOP = new RepositoryMetrics() { };
+
+    /**
+     * Called for every Call of {@link BeanRepository#getBean(Class)}.
+     *
+     * @param cls    The requested Class.
+     */
+    default void beanRequested(final Class<?> cls) {
+    }
+
+    /**
+     * Called for every created {@code prototype} Bean, either registered or created by
+     *  {@code BeanRepository.getPrototypeBean(...)}.
+     *
+     * @param cls    The Class of the created Bean.
+     */
+    default void prototypeCreated(final Class<?> cls) {
+    }
+
+    /**
+     * Called if a Thread had to wait for a {@code singleton} Bean, which was initialised by an other Thread.
+     *
+     * @param cls      The Class of the {@code singleton} Bean.
+     * @param nanos    The Time the Thread waited, in Nanoseconds.
+     */
+    default void singletonInitialisationAwaited(final Class<?> cls, final long nanos) {
+    }
+
+    /**
+     * Called for every Call of {@link BeanRepository#getBeansOfType(Class)}.
+     *
+     * @param cls    The requested Type.
+     */
+    default void beansOfTypeRequested(final Class<?> cls) {
+    }
+
+    /**
+     * Called for every Event which is fired by the {@code ApplicationEventBus}.
+     *
+     * @param eventClass    The Class of the Event.
+     */
+    default void eventPublished(final Class<?> eventClass) {
+    }
+
+    /**
+     * Called for every Delivery of an Event to a Listener by the {@code ApplicationEventBus}.
+     *
+     * @param eventClass    The Class of the Event.
+     */
+    default void eventDelivered(final Class<?> eventClass) {
+    }
+}
@@ -19,5 +19,60 @@ public enum Scope {
     /**
      * There is one registered Bean of this Class in the BeanRepository.
      */
-    INSTANCE
+    INSTANCE,
+
+    /**
+     * Beans are kept in a Pool, and are borrowed with {@link BeanRepository#borrow(Class)}. A Bean is only
+     *  used by one Borrower at a Time, and is returned to the Pool if the {@link Lease} is closed. If the Bean
+     *  is requested by {@link BeanRepository#getBean(Class)}, a new Instance is created, like a {@code prototype}
+     *  Bean, which is neither taken from the Pool nor counted by its Limit. The Pool is configured by
+     *  {@link PoolSettings}.
+     */
+    POOLED,
+
+    /**
+     * Every Thread gets its own Instance of the Bean. If the Bean is requested again by the same Thread, the
+     *  same Instance will be returned. The Instance of a Thread is released by
+     *  {@link BeanRepository#endThreadScope()}, or when the Thread is terminated.
+     */
+    THREAD,
+
+    /**
+     * A fixed Number of Instances, the Stripes, is created within the BeanRepository. Every Thread is assigned
+     *  to one Stripe, and gets the Instance of this Stripe if the Bean is requested. All created Stripes are
+     *  returned by {@link BeanRepository#getStripes(Class)}, e.g. to merge them.
+     */
+    STRIPED,
+
+    /**
+     * One Instance is created within a {@link ScopeContext}, e.g. per Message or per Batch. The Bean can only be
+     *  requested while a Context is open, and is created when it is requested the first Time within the Context.
+     *  All Beans of a Context are disposed when the Context is closed.
+     */
+    SCOPED;
+
+    /**
+     * @return the Scope of the Beans of the given Provider.
+     */
+    static Scope of(final BeanProvider provider) {
+        if (provider instanceof SingletonBeanProvider) {
+            return SINGLETON;
+        }
+        if (provider instanceof InstanceProvider) {
+            return INSTANCE;
+        }
+        if (provider instanceof PooledBeanProvider) {
+            return POOLED;
+        }
+        if (provider instanceof ThreadScopedProvider) {
+            return THREAD;
+        }
+        if (provider instanceof StripedProvider) {
+            return STRIPED;
+        }
+        if (provider instanceof ScopedProvider) {
+            return SCOPED;
+        }
+        return PROTOTYPE;
+    }
 }
@@ -0,0 +1,115 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * A Unit of Work for Beans with the Scope {@link Scope#SCOPED}, e.g. the Processing of a Message or a Batch. While
+ *  the Context is open for a Thread, every {@code scoped} Bean which is requested by this Thread is created once
+ *  within the Context. When the Context is closed, all its Beans are disposed in the reverse Order of their
+ *  Creation: {@link PreDestroyable#onPreDestroy()} is executed for every Bean which implements
+ *  {@link PreDestroyable}, and every Bean which implements {@link AutoCloseable} is closed.
+ * <p>
+ * A Context is created once by {@link BeanRepository#createScopeContext()}, and can be opened and closed again for
+ *  every Unit of Work. The Beans are stored in an Array, with one Slot per {@code scoped} Bean. Opening and closing
+ *  a Context allocates nothing. Contexts can be nested: closing the inner Context makes the outer Context the
+ *  current one again.
+ * <pre>
+ * final ScopeContext context = repository.createScopeContext();
+ * for (Message message : messages) {
+ *     try (ScopeContext unitOfWork = context.open()) {
+ *         repository.getBean(MessageHandler.class).handle(message);
+ *     }
+ * }
+ * </pre>
+ * A Context is not thread safe. It must be opened and closed by the same Thread.
+ */
+public final class ScopeContext implements AutoCloseable {
+
+    private static final ThreadLocal<ScopeContext> CURRENT = new ThreadLocal<>();
+
+    private final ScopedProvider[] providers;
+    private final Object[] beans;
+    private final int[] creationOrder;
+    private int created;
+    private Thread owner;
+    private ScopeContext previous;
+
+    ScopeContext(final ScopedProvider[] providers) {
+        this.providers = providers;
+        this.beans = new Object[providers.length];
+        this.creationOrder = new int[providers.length];
+    }
+
+    static ScopeContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Opens the Context for the current Thread. Until the Context is closed, all {@code scoped} Beans which are
+     *  requested by this Thread belong to this Context.
+     *
+     * @throws IllegalStateException if the Context is already open.
+     * @return this Context, to be used in a {@code try}-with-resources Statement.
+     */
+    public ScopeContext open() {
+        if (owner != null) {
+            throw new IllegalStateException("The ScopeContext is already open");
+        }
+        owner = Thread.currentThread();
+        previous = CURRENT.get();
+        CURRENT.set(this);
+        return this;
+    }
+
+    /**
+     * Closes the Context, and disposes all Beans which are created within the Context. Every Bean is disposed,
+     *  even if the Disposal of an other Bean fails. The first Failure is thrown afterwards.
+     *
+     * @throws IllegalStateException if the Context is not open, or is not the current Context of this Thread.
+     */
+    @Override public void close() {
+        if (owner != Thread.currentThread() || CURRENT.get() != this) {
+            throw new IllegalStateException("The ScopeContext is not the current Context of this Thread");
+        }
+        CURRENT.set(previous);
+        previous = null;
+        owner = null;
+        disposeBeans();
+    }
+
+    private void disposeBeans() {
+        RuntimeException failure = null;
+        while (created > 0) {
+            final int slot = creationOrder[--created];
+            final Object bean = beans[slot];
+            beans[slot] = null;
+            try {
+                SingletonDisposer.disposeBean(bean);
+            }
+            catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+                else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    <T> T getBean(final int slot, final ScopedProvider provider, final BeanRepository repository,
+            final DryRunAware dryRun) {
+        if (slot >= providers.length || providers[slot] != provider) {
+            throw new IllegalStateException("The scoped Bean is not visible in the current ScopeContext. The"
+                    + " Context has to be created by the Repository of the Bean, or one of its Children.");
+        }
+        Object bean = beans[slot];
+        if (bean == null) {
+            bean = provider.create(repository, dryRun);
+            beans[slot] = bean;
+            creationOrder[created++] = slot;
+        }
+        return (T) bean;
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.tinosteinort.beanrepository;
+
+/**
+ * Provides a Bean with the Scope {@link Scope#SCOPED}. The Instances are created by a {@code prototype}
+ *  {@link BeanProvider}, and kept by the {@link ScopeContext} which is open for the current Thread. Every
+ *  {@code scoped} Bean gets a Slot in the Context when the {@link BeanRepository} is built, so the Access to the
+ *  Instance of a Context is an Access by Index.
+ */
+class ScopedProvider implements BeanProvider {
+
+    private final BeanProvider prototype;
+    private int slot = -1;
+
+    ScopedProvider(final BeanProvider prototype) {
+        this.prototype = prototype;
+    }
+
+    void assignSlot(final int slot) {
+        this.slot = slot;
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        if (dryRun.isDryRun()) {
+            return prototype.getBean(repository, dryRun);
+        }
+        final ScopeContext context = ScopeContext.current();
+        if (context == null) {
+            throw new IllegalStateException("A scoped Bean can only be requested while a ScopeContext is open");
+        }
+        return context.getBean(slot, this, repository, dryRun);
+    }
+
+    <T> T create(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.getBean(repository, dryRun);
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.resolveBeanType(repository, dryRun);
+    }
+
+    @Override public String getRepositoryId() {
+        return prototype.getRepositoryId();
+    }
+
+    @Override public void bindDependencies(final BeanRepository repository) {
+        prototype.bindDependencies(repository);
+    }
+}
@@ -0,0 +1,267 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Base Class for the Providers of {@code singleton} Beans. The Bean is created without a Lock: the first Thread
+ *  which requests the Bean marks the Bean as in Progress and creates it. Every other Thread which requests the
+ *  Bean meanwhile waits for the Result of this Creation. As soon as the Bean is created, every Access is a
+ *  single Read of the Instance.
+ * <p>
+ * The Creation is split into two Steps: {@link #constructBean(BeanRepository)} executes the Code which is
+ *  registered for the Bean, {@link #initialiseBean(BeanRepository, Object)} executes
+ *  {@link PostConstructible#onPostConstruct(BeanRepository)}. The first Step may be executed by an other Thread
+ *  than the second Step, see {@link ParallelSingletonInitialiser}. A Thread which requests a Bean, which is
+ *  constructed in the Background and not yet published, finishes and publishes the Bean itself.
+ */
+abstract class SingletonBeanProvider implements BeanProvider {
+
+    private static final AtomicReferenceFieldUpdater<SingletonBeanProvider, Initialisation> INITIALISATION =
+            AtomicReferenceFieldUpdater.newUpdater(SingletonBeanProvider.class, Initialisation.class,
+                    "initialisation");
+
+    private final String repositoryId;
+    private volatile Object instance;
+    private volatile Initialisation initialisation;
+    private volatile long creationTime;
+
+    SingletonBeanProvider(final String repositoryId) {
+        this.repositoryId = repositoryId;
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        final Object bean = instance;
+        if (bean != null) {
+            return (T) bean;
+        }
+        if (dryRun.isDryRun()) {
+            return (T) createDryRunBean(repository);
+        }
+        return (T) initialise(repository);
+    }
+
+    private Object initialise(final BeanRepository repository) {
+        while (true) {
+            final Object bean = instance;
+            if (bean != null) {
+                return bean;
+            }
+
+            final Initialisation current = initialisation;
+            if (current == null) {
+                final Initialisation claimed = claim();
+                if (claimed != null) {
+                    return publish(repository, claimed);
+                }
+            }
+            else if (current.publisher == null && current.construction != null) {
+                // The Bean is constructed in the Background. Do not wait until the Owner gets to it, which may
+                //  wait for this Thread, but finish it right now.
+                return publish(repository, current);
+            }
+            else if (current.publisher == Thread.currentThread()
+                    || current.owner == Thread.currentThread() && current.publisher == null) {
+                // The Bean is requested again by the Thread which creates it, e.g. in onPostConstruct().
+                //  Waiting would never end, so the Bean is created again, without being published.
+                return createBean(repository);
+            }
+            else {
+                return awaitInitialisation(repository, current);
+            }
+        }
+    }
+
+    /**
+     * Marks the Bean as in Progress by the current Thread.
+     *
+     * @return the Marker, or {@code null} if the Bean is already created or in Progress
+     */
+    Initialisation claim() {
+        if (instance != null) {
+            return null;
+        }
+        final Initialisation claimed = new Initialisation();
+        if (INITIALISATION.compareAndSet(this, null, claimed)) {
+            return claimed;
+        }
+        return null;
+    }
+
+    /**
+     * Finishes the Creation of a claimed Bean, and makes it available for every Thread. If the Bean was
+     *  constructed in the Background, the Result of the Construction is used.
+     */
+    Object publish(final BeanRepository repository, final Initialisation claimed) {
+        if (!claimed.publishBy(Thread.currentThread())) {
+            // An other Thread publishes the Bean already, e.g. the Thread which completed an asynchronous Creation
+            return awaitInitialisation(repository, claimed);
+        }
+        try {
+            Object bean = instance;
+            if (bean == null) {
+                bean = recordedInitialisation(repository, claimed.construction != null
+                        ? claimed.constructed()
+                        : recordedConstruction(repository));
+                creationTime = System.currentTimeMillis();
+                instance = bean;
+            }
+            claimed.complete(bean);
+            return bean;
+        }
+        catch (RuntimeException | Error ex) {
+            abandon(claimed, ex);
+            throw ex;
+        }
+        finally {
+            INITIALISATION.compareAndSet(this, claimed, null);
+        }
+    }
+
+    private Object awaitInitialisation(final BeanRepository repository, final Initialisation current) {
+        final long start = System.nanoTime();
+        final Object bean = current.await();
+        repository.metrics().singletonInitialisationAwaited(bean.getClass(), System.nanoTime() - start);
+        return bean;
+    }
+
+    /**
+     * Releases a claimed Bean without creating it. Threads which wait for the Bean receive the given Error.
+     */
+    void abandon(final Initialisation claimed, final Throwable cause) {
+        claimed.completeExceptionally(cause);
+        INITIALISATION.compareAndSet(this, claimed, null);
+    }
+
+    Object createBean(final BeanRepository repository) {
+        return recordedInitialisation(repository, recordedConstruction(repository));
+    }
+
+    /**
+     * Executes {@link #constructBean(BeanRepository)}, and records its Time if a {@link StartupReport} is
+     *  created.
+     */
+    Object recordedConstruction(final BeanRepository repository) {
+        final StartupRecorder recorder = repository.startupRecorder();
+        if (recorder == null) {
+            return constructBean(repository);
+        }
+        return recorder.record(StartupReport.Phase.INITIALISATION, this, () -> constructBean(repository));
+    }
+
+    private Object recordedInitialisation(final BeanRepository repository, final Object constructed) {
+        final StartupRecorder recorder = repository.startupRecorder();
+        if (recorder == null) {
+            return initialiseBean(repository, constructed);
+        }
+        return recorder.record(StartupReport.Phase.POST_CONSTRUCT, this,
+                () -> initialiseBean(repository, constructed));
+    }
+
+    /**
+     * Executes the Code which is registered to create the Bean.
+     */
+    abstract Object constructBean(BeanRepository repository);
+
+    /**
+     * Executes {@link PostConstructible#onPostConstruct(BeanRepository)} for the constructed Object.
+     *
+     * @return the full initialised Bean
+     */
+    abstract Object initialiseBean(BeanRepository repository, Object constructed);
+
+    /**
+     * Executes the Creation of the Bean in a dry run, to detect cyclic or missing Dependencies.
+     */
+    abstract Object createDryRunBean(BeanRepository repository);
+
+    Object instance() {
+        return instance;
+    }
+
+    /**
+     * @return the Time in Milliseconds since the Epoch, when the Bean was published, or 0 if it is not yet created.
+     */
+    long creationTime() {
+        return creationTime;
+    }
+
+    /**
+     * @return the Marker of the Creation in Progress, or {@code null} if the Bean is not in Progress
+     */
+    Initialisation inProgress() {
+        return initialisation;
+    }
+
+    @Override public String getRepositoryId() {
+        return repositoryId;
+    }
+
+    /**
+     * Marks a Bean as in Progress. Threads which wait for the Bean are parked until the Creation is completed.
+     */
+    static final class Initialisation extends CompletableFuture<Object> {
+
+        private static final AtomicReferenceFieldUpdater<Initialisation, Thread> PUBLISHER =
+                AtomicReferenceFieldUpdater.newUpdater(Initialisation.class, Thread.class, "publisher");
+
+        private final Thread owner = Thread.currentThread();
+        private volatile Thread publisher;
+        private volatile Future<Object> construction;
+
+        void constructIn(final Future<Object> construction) {
+            this.construction = construction;
+        }
+
+        /**
+         * Marks the given Thread as the Thread which publishes the Bean. The same Thread may publish the Bean
+         *  again, e.g. if the Bean is requested while its own Initialisation.
+         *
+         * @return {@code true} if the given Thread publishes the Bean
+         */
+        private boolean publishBy(final Thread thread) {
+            return PUBLISHER.compareAndSet(this, null, thread) || publisher == thread;
+        }
+
+        private Object constructed() {
+            if (construction instanceof RunnableFuture) {
+                // Not yet started if every Thread of the Executor waits for this Bean. A started or
+                //  completed Construction is not run again.
+                ((RunnableFuture<Object>) construction).run();
+            }
+            try {
+                return construction.get();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
+            }
+            catch (ExecutionException ex) {
+                throw rethrow(ex.getCause());
+            }
+        }
+
+        private Object await() {
+            try {
+                return join();
+            }
+            catch (CompletionException ex) {
+                throw rethrow(ex.getCause());
+            }
+        }
+
+        private static RuntimeException rethrow(final Throwable cause) {
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Disposes the created {@code singleton} Beans of a {@link BeanRepository} in the reverse Order of their
+ *  Dependencies: a Bean is disposed after all Beans which depend on it. Beans without a Relation to each other
+ *  are disposed in parallel, but not more than {@code parallelism} Beans at the same Time. The Threads are reused
+ *  for the next Bean. Only a Thread whose Bean timed out and ignores the Interruption is not reused, so a hanging
+ *  Bean does not delay the others.
+ * <p>
+ * The Disposal of every Bean is limited by the Bean Timeout, and the whole Disposal by the Deadline. If the
+ *  Disposal of a Bean times out, its Thread is interrupted and the Beans it depends on are disposed anyway. If
+ *  the Deadline is exceeded, the remaining Beans are not disposed. All Failures are collected and thrown after
+ *  the Disposal, the first Failure with all others as suppressed Exceptions.
+ */
+class SingletonDisposer {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final BeanRepository repository;
+    private final Duration deadline;
+    private final Duration beanTimeout;
+    private final int parallelism;
+
+    SingletonDisposer(final BeanRepository repository, final Duration deadline, final Duration beanTimeout,
+            final int parallelism) {
+        this.repository = repository;
+        this.deadline = deadline;
+        this.beanTimeout = beanTimeout;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Executes {@link PreDestroyable#onPreDestroy()} and {@link AutoCloseable#close()}, if the Bean implements
+     *  them. A checked Exception of {@link AutoCloseable#close()} is wrapped into a {@link RuntimeException}.
+     */
+    static void disposeBean(final Object bean) {
+        if (bean instanceof PreDestroyable) {
+            ((PreDestroyable) bean).onPreDestroy();
+        }
+        if (bean instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) bean).close();
+            }
+            catch (RuntimeException ex) {
+                throw ex;
+            }
+            catch (Exception ex) {
+                throw new RuntimeException("Error while closing Bean " + bean, ex);
+            }
+        }
+    }
+
+    static boolean isDisposable(final Object bean) {
+        return bean instanceof PreDestroyable || bean instanceof AutoCloseable;
+    }
+
+    void dispose(final List<SingletonBeanProvider> singletons, final DependencyGraph dependencies) {
+        final int count = singletons.size();
+
+        final Map<SingletonBeanProvider, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < count; i++) {
+            indices.put(singletons.get(i), i);
+        }
+
+        final int[] remainingDependents = new int[count];
+        final List<List<Integer>> dependenciesByIndex = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final List<Integer> dependencyIndices = new ArrayList<>();
+            for (SingletonBeanProvider dependency : dependencies.singletonDependenciesOf(singletons.get(i))) {
+                final Integer dependencyIndex = indices.get(dependency);
+                if (dependencyIndex != null && dependencyIndex != i) {
+                    dependencyIndices.add(dependencyIndex);
+                    remainingDependents[dependencyIndex]++;
+                }
+            }
+            dependenciesByIndex.add(dependencyIndices);
+        }
+
+        // Beans which are registered later are disposed first, if they are not related
+        final Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = count - 1; i >= 0; i--) {
+            if (remainingDependents[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        final long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        final BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+        final Throwable[] errors = new Throwable[count];
+        final Future<?>[] disposals = new Future<?>[count];
+        final long[] timeouts = new long[count];
+        final boolean[] disposed = new boolean[count];
+        final Set<Integer> running = new LinkedHashSet<>();
+        final List<RuntimeException> failures = new ArrayList<>();
+        int remaining = count;
+
+        final ExecutorService executor = Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, "BeanRepository-disposal-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            while (remaining > 0) {
+                while (!ready.isEmpty() && running.size() < parallelism) {
+                    final int index = ready.poll();
+                    final Object bean = singletons.get(index).instance();
+                    if (!isDisposable(bean)) {
+                        remaining -= markDisposed(index, disposed, dependenciesByIndex, remainingDependents, ready);
+                        continue;
+                    }
+                    timeouts[index] = System.nanoTime() + beanTimeout.toNanos();
+                    running.add(index);
+                    disposals[index] = executor.submit(() -> {
+                        try {
+                            disposeBean(bean);
+                        }
+                        catch (Throwable ex) {
+                            errors[index] = ex;
+                        }
+                        finally {
+                            finished.add(index);
+                        }
+                    });
+                }
+                if (remaining == 0) {
+                    break;
+                }
+
+                final long now = System.nanoTime();
+                if (now - deadlineNanos >= 0) {
+                    failures.add(deadlineExceeded(singletons, disposed));
+                    break;
+                }
+                long waitNanos = deadlineNanos - now;
+                for (int index : running) {
+                    waitNanos = Math.min(waitNanos, timeouts[index] - now);
+                }
+
+                final Integer index = finished.poll(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS);
+                if (index != null) {
+                    if (running.remove(index)) {
+                        if (errors[index] != null) {
+                            failures.add(new RuntimeException("Disposal of Bean "
+                                    + repository.nameOf(singletons.get(index)) + " failed", errors[index]));
+                        }
+                        remaining -= markDisposed(index, disposed, dependenciesByIndex, remainingDependents, ready);
+                    }
+                    continue;
+                }
+
+                final long timedOut = System.nanoTime();
+                for (int runningIndex : new ArrayList<>(running)) {
+                    if (timeouts[runningIndex] - timedOut <= 0) {
+                        running.remove(runningIndex);
+                        disposals[runningIndex].cancel(true);
+                        failures.add(new IllegalStateException("Disposal of Bean "
+                                + repository.nameOf(singletons.get(runningIndex)) + " timed out after "
+                                + beanTimeout.toMillis() + " ms"));
+                        remaining -= markDisposed(runningIndex, disposed, dependenciesByIndex, remainingDependents,
+                                ready);
+                    }
+                }
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failures.add(new RuntimeException("Disposal of singleton beans interrupted", ex));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            final RuntimeException failure = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                failure.addSuppressed(failures.get(i));
+            }
+            throw failure;
+        }
+    }
+
+    private static int markDisposed(final int index, final boolean[] disposed,
+            final List<List<Integer>> dependenciesByIndex, final int[] remainingDependents,
+            final Deque<Integer> ready) {
+        disposed[index] = true;
+        for (int dependency : dependenciesByIndex.get(index)) {
+            if (--remainingDependents[dependency] == 0) {
+                ready.add(dependency);
+            }
+        }
+        return 1;
+    }
+
+    private IllegalStateException deadlineExceeded(final List<SingletonBeanProvider> singletons,
+            final boolean[] disposed) {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < disposed.length; i++) {
+            if (!disposed[i] && isDisposable(singletons.get(i).instance())) {
+                names.add(repository.nameOf(singletons.get(i)));
+            }
+        }
+        return new IllegalStateException("Disposal deadline of " + deadline.toMillis()
+                + " ms exceeded. Beans not disposed: " + String.join(", ", names));
+    }
+}
@@ -1,59 +1,41 @@
 package com.github.tinosteinort.beanrepository;
 
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
-class SingletonFactoryProvider implements BeanProvider {
+class SingletonFactoryProvider extends SingletonBeanProvider {
 
-    private final String repositoryId;
     private final Function<BeanAccessor, Factory> creator;
-    private volatile Object instance;
-    private final Lock lock = new ReentrantLock();
 
     SingletonFactoryProvider(final String repositoryId, final Function<BeanAccessor, Factory> creator) {
-        this.repositoryId = repositoryId;
+        super(repositoryId);
         this.creator = creator;
     }
 
-    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
-        if (instance == null) {
-            return createAndGetBean(repository, dryRun.isDryRun());
-        }
-        return (T) instance;
+    @Override Object constructBean(final BeanRepository repository) {
+        return repository.construct(this, creator);
     }
 
-    private <T> T createAndGetBean(final BeanRepository repository, final boolean dryRun) {
-        lock.lock();
-        try {
-            if (instance == null) {
-                if (dryRun) {
-                    // This call is only needed to detect cyclic dependencies on dryRun.
-                    creator.apply(repository.accessor());
+    /**
+     * The Factory is post constructed before the Bean is created, so {@link Factory#createInstance()}
+     *  is part of this Step.
+     */
+    @Override Object initialiseBean(final BeanRepository repository, final Object constructed) {
+        final Factory factory = (Factory) constructed;
+        repository.postConstruct(this, factory);
 
-                    // In case of a dry run, whether the postConstruct() method nor the createInstance()
-                    //  method of the factory must not be called. So we can just return NULL.
-                    return null;
-                }
-                else {
-                    final Factory factory = creator.apply(repository.accessor());
-                    repository.postConstruct(factory);
+        final Object beanInstance = repository.createInstance(this, factory);
+        repository.postConstruct(this, beanInstance);
 
-                    final Object beanInstance = factory.createInstance();
-                    repository.postConstruct(beanInstance);
-
-                    instance = beanInstance;
-                }
-            }
-            return (T) instance;
-        }
-        finally {
-            lock.unlock();
-        }
+        return beanInstance;
     }
 
-    @Override public String getRepositoryId() {
-        return repositoryId;
+    @Override Object createDryRunBean(final BeanRepository repository) {
+        // This call is only needed to detect cyclic dependencies on dryRun.
+        creator.apply(repository.accessor());
+
+        // In case of a dry run, whether the postConstruct() method nor the createInstance()
+        //  method of the factory must not be called. So we can just return NULL.
+        return null;
     }
 
     @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
@@ -0,0 +1,140 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the Times of the Beans while the Build of a {@link BeanRepository}, for the {@link StartupReport}. The
+ *  Recorder only exists while the Build, if the Report is enabled. Otherwise the Repository holds no Recorder,
+ *  and the only Cost is the Check for it.
+ * <p>
+ * Beans are created recursively: the Creation of a Bean creates its Dependencies. Every Thread keeps a Stack of
+ *  the Beans in Progress, and the Time of a nested Creation is subtracted from the Time of the enclosing Bean.
+ */
+class StartupRecorder {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported();
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<BeanProvider, StartupReport.BeanTiming> timings = new LinkedHashMap<>();
+    private final long start = System.nanoTime();
+    private final Function<BeanProvider, Class<?>> beanClasses;
+
+    StartupRecorder(final Function<BeanProvider, Class<?>> beanClasses) {
+        this.beanClasses = beanClasses;
+    }
+
+    <T> T record(final StartupReport.Phase phase, final BeanProvider provider, final Supplier<T> creation) {
+        final Deque<Frame> stack = frames.get();
+        final Frame frame = new Frame(System.nanoTime(), cpuTime());
+        stack.push(frame);
+        try {
+            return creation.get();
+        }
+        finally {
+            stack.pop();
+            final long wall = System.nanoTime() - frame.wallStart;
+            final long cpu = cpuTime() - frame.cpuStart;
+            final Frame enclosing = stack.peek();
+            if (enclosing != null) {
+                enclosing.nestedWall += wall;
+                enclosing.nestedCpu += cpu;
+            }
+            timingOf(provider).add(phase, wall - frame.nestedWall, cpu - frame.nestedCpu,
+                    Thread.currentThread().getName());
+        }
+    }
+
+    private synchronized StartupReport.BeanTiming timingOf(final BeanProvider provider) {
+        return timings.computeIfAbsent(provider, key -> new StartupReport.BeanTiming(beanClasses.apply(key)));
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : 0L;
+    }
+
+    /**
+     * Creates the Report. The critical Path is the Chain of the given {@code singleton} Beans with the longest Sum
+     *  of the Phases {@link StartupReport.Phase#INITIALISATION} and {@link StartupReport.Phase#POST_CONSTRUCT}.
+     */
+    synchronized StartupReport report(final Collection<SingletonBeanProvider> singletons,
+            final DependencyGraph dependencies) {
+        final Duration buildTime = Duration.ofNanos(System.nanoTime() - start);
+
+        final Map<SingletonBeanProvider, Long> pathTimes = new IdentityHashMap<>();
+        final Map<SingletonBeanProvider, SingletonBeanProvider> slowestDependency = new IdentityHashMap<>();
+        SingletonBeanProvider slowest = null;
+        for (SingletonBeanProvider singleton : singletons) {
+            final long time = pathTime(singleton, dependencies, pathTimes, slowestDependency);
+            if (time > 0 && (slowest == null || time > pathTimes.get(slowest))) {
+                slowest = singleton;
+            }
+        }
+
+        final List<Class<?>> criticalPath = new ArrayList<>();
+        final Duration criticalPathTime = Duration.ofNanos(slowest != null ? pathTimes.get(slowest) : 0L);
+        for (SingletonBeanProvider bean = slowest; bean != null; bean = slowestDependency.get(bean)) {
+            final StartupReport.BeanTiming timing = timings.get(bean);
+            if (timing != null) {
+                criticalPath.add(0, timing.getBeanClass());
+            }
+        }
+        return new StartupReport(buildTime, new ArrayList<>(timings.values()), criticalPath, criticalPathTime);
+    }
+
+    /**
+     * The Dependencies are validated to be free of Cycles before, so the Recursion terminates.
+     */
+    private long pathTime(final SingletonBeanProvider singleton, final DependencyGraph dependencies,
+            final Map<SingletonBeanProvider, Long> pathTimes,
+            final Map<SingletonBeanProvider, SingletonBeanProvider> slowestDependency) {
+        final Long known = pathTimes.get(singleton);
+        if (known != null) {
+            return known;
+        }
+        long slowestTime = 0;
+        for (SingletonBeanProvider dependency : dependencies.singletonDependenciesOf(singleton)) {
+            final long time = pathTime(dependency, dependencies, pathTimes, slowestDependency);
+            if (time > slowestTime) {
+                slowestTime = time;
+                slowestDependency.put(singleton, dependency);
+            }
+        }
+        final long time = slowestTime + creationTime(singleton);
+        pathTimes.put(singleton, time);
+        return time;
+    }
+
+    private long creationTime(final SingletonBeanProvider singleton) {
+        final StartupReport.BeanTiming timing = timings.get(singleton);
+        if (timing == null) {
+            return 0L;
+        }
+        return timing.getWallTime(StartupReport.Phase.INITIALISATION).toNanos()
+                + timing.getWallTime(StartupReport.Phase.POST_CONSTRUCT).toNanos();
+    }
+
+    private static final class Frame {
+
+        private final long wallStart;
+        private final long cpuStart;
+        private long nestedWall;
+        private long nestedCpu;
+
+        private Frame(final long wallStart, final long cpuStart) {
+            this.wallStart = wallStart;
+            this.cpuStart = cpuStart;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The Timing of the Build of a {@link BeanRepository}, returned by {@link BeanRepository#getStartupReport()} if
+ *  it is enabled by {@link BeanRepository.BeanRepositoryBuilder#enableStartupReport(boolean)}. For every Bean
+ *  which is created while the Build, the Wall Time, the CPU Time and the Thread are recorded for every
+ *  {@link Phase}. The Times of a Bean do not include the Times of other Beans which are created meanwhile, e.g.
+ *  its Dependencies.
+ * <p>
+ * The Report lists the slowest Beans, and the critical Path: the Chain of {@code singleton} Beans and their
+ *  Dependencies with the longest Creation Time. Even with unlimited parallel Initialisation, the Build can not be
+ *  faster than the critical Path. These are the Candidates for a lazy or asynchronous Creation.
+ */
+public final class StartupReport {
+
+    /**
+     * The Phases of the Build of a {@link BeanRepository}.
+     */
+    public enum Phase {
+
+        /**
+         * The dry run, which validates the Configuration and records the Dependencies of the Beans.
+         */
+        DRY_RUN,
+
+        /**
+         * The Construction of a {@code singleton} Bean, i.e. the Execution of the Code which is registered for
+         *  the Bean.
+         */
+        INITIALISATION,
+
+        /**
+         * The Execution of {@link PostConstructible#onPostConstruct(BeanRepository)} for a {@code singleton}
+         *  Bean. For a Bean which is created by a {@link Factory}, this includes
+         *  {@link Factory#createInstance()}.
+         */
+        POST_CONSTRUCT
+    }
+
+    private final Duration buildTime;
+    private final List<BeanTiming> beanTimings;
+    private final List<Class<?>> criticalPath;
+    private final Duration criticalPathTime;
+
+    StartupReport(final Duration buildTime, final List<BeanTiming> beanTimings, final List<Class<?>> criticalPath,
+            final Duration criticalPathTime) {
+        this.buildTime = buildTime;
+        this.beanTimings = Collections.unmodifiableList(new ArrayList<>(beanTimings));
+        this.criticalPath = Collections.unmodifiableList(new ArrayList<>(criticalPath));
+        this.criticalPathTime = criticalPathTime;
+    }
+
+    /**
+     * @return the Wall Time of the whole Build.
+     */
+    public Duration getBuildTime() {
+        return buildTime;
+    }
+
+    /**
+     * @return the Timings of all Beans which are created while the Build, in the Order of their first Creation.
+     */
+    public List<BeanTiming> getBeanTimings() {
+        return beanTimings;
+    }
+
+    /**
+     * @param count    The maximum Number of returned Beans.
+     * @throws IllegalArgumentException if the Count is negative.
+     * @return the Timings of the Beans with the longest Wall Time over all Phases, the slowest Bean first.
+     */
+    public List<BeanTiming> getSlowestBeans(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, but was " + count);
+        }
+        final List<BeanTiming> sorted = new ArrayList<>(beanTimings);
+        sorted.sort(Comparator.comparing(BeanTiming::getTotalWallTime).reversed());
+        return Collections.unmodifiableList(sorted.subList(0, Math.min(count, sorted.size())));
+    }
+
+    /**
+     * @return the Classes of the {@code singleton} Beans on the critical Path, every Bean after the Bean it
+     *  depends on. Empty if no {@code singleton} Bean is created while the Build.
+     */
+    public List<Class<?>> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * @return the Sum of the Wall Times of the Phases {@link Phase#INITIALISATION} and
+     *  {@link Phase#POST_CONSTRUCT} of all Beans on the critical Path.
+     */
+    public Duration getCriticalPathTime() {
+        return criticalPathTime;
+    }
+
+    @Override public String toString() {
+        final StringBuilder result = new StringBuilder();
+        result.append("Build time: ").append(buildTime.toMillis()).append(" ms\n");
+        result.append("Slowest beans:\n");
+        for (BeanTiming timing : getSlowestBeans(10)) {
+            result.append("  ").append(timing).append('\n');
+        }
+        result.append("Critical path (").append(criticalPathTime.toMillis()).append(" ms):");
+        for (Class<?> bean : criticalPath) {
+            result.append("\n  ").append(bean.getName());
+        }
+        return result.toString();
+    }
+
+    /**
+     * The recorded Times of a single Bean.
+     */
+    public static final class BeanTiming {
+
+        private final Class<?> beanClass;
+        private final Map<Phase, Long> wallNanos = new EnumMap<>(Phase.class);
+        private final Map<Phase, Long> cpuNanos = new EnumMap<>(Phase.class);
+        private final Map<Phase, String> threads = new EnumMap<>(Phase.class);
+
+        BeanTiming(final Class<?> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        synchronized void add(final Phase phase, final long wall, final long cpu, final String thread) {
+            wallNanos.merge(phase, wall, Long::sum);
+            cpuNanos.merge(phase, cpu, Long::sum);
+            threads.put(phase, thread);
+        }
+
+        /**
+         * @return the Class with which the Bean is registered.
+         */
+        public Class<?> getBeanClass() {
+            return beanClass;
+        }
+
+        /**
+         * @param phase    The Phase of the Build.
+         * @return the Wall Time of the Bean in the given Phase. Zero if the Bean is not created in this Phase.
+         */
+        public synchronized Duration getWallTime(final Phase phase) {
+            return Duration.ofNanos(wallNanos.getOrDefault(phase, 0L));
+        }
+
+        /**
+         * @param phase    The Phase of the Build.
+         * @return the CPU Time of the Bean in the given Phase. Zero if the Bean is not created in this Phase, or
+         *  the JVM does not support the Measurement of the CPU Time of a Thread.
+         */
+        public synchronized Duration getCpuTime(final Phase phase) {
+            return Duration.ofNanos(cpuNanos.getOrDefault(phase, 0L));
+        }
+
+        /**
+         * @param phase    The Phase of the Build.
+         * @return the Name of the Thread which created the Bean in the given Phase, or {@code null} if the Bean is
+         *  not created in this Phase.
+         */
+        public synchronized String getThread(final Phase phase) {
+            return threads.get(phase);
+        }
+
+        /**
+         * @return the Wall Time of the Bean over all Phases.
+         */
+        public synchronized Duration getTotalWallTime() {
+            long total = 0;
+            for (long wall : wallNanos.values()) {
+                total += wall;
+            }
+            return Duration.ofNanos(total);
+        }
+
+        /**
+         * @return the CPU Time of the Bean over all Phases.
+         */
+        public synchronized Duration getTotalCpuTime() {
+            long total = 0;
+            for (long cpu : cpuNanos.values()) {
+                total += cpu;
+            }
+            return Duration.ofNanos(total);
+        }
+
+        @Override public synchronized String toString() {
+            final StringBuilder result = new StringBuilder(beanClass.getName());
+            result.append(": ").append(toMillis(getTotalWallTime())).append(" ms");
+            for (Phase phase : wallNanos.keySet()) {
+                result.append(", ").append(phase).append(' ')
+                        .append(toMillis(getWallTime(phase))).append(" ms wall / ")
+                        .append(toMillis(getCpuTime(phase))).append(" ms cpu on ")
+                        .append(threads.get(phase));
+            }
+            return result.toString();
+        }
+
+        private static String toMillis(final Duration duration) {
+            return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Provides a Bean with the Scope {@link Scope#STRIPED}. The Instances are created by a {@code prototype}
+ *  {@link BeanProvider}, one for every Stripe, when the Stripe is requested the first Time. A Thread is assigned
+ *  to a Stripe by its Id, so Threads which write to the Bean concurrently are spread over different Instances.
+ *  No Lock is held, neither for the Access to an already created Stripe, nor for the Creation of a Stripe: if two
+ *  Threads create the same Stripe concurrently, the first installed Instance is used by both, and the other
+ *  Instance is discarded.
+ */
+class StripedProvider implements BeanProvider {
+
+    private final BeanProvider prototype;
+    private final AtomicReferenceArray<Object> stripes;
+
+    StripedProvider(final BeanProvider prototype, final int stripes) {
+        this.prototype = prototype;
+        this.stripes = new AtomicReferenceArray<>(stripes);
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        final int index = (int) (Thread.currentThread().getId() % stripes.length());
+        final Object stripe = stripes.get(index);
+        if (stripe != null) {
+            return (T) stripe;
+        }
+        if (dryRun.isDryRun()) {
+            return prototype.getBean(repository, dryRun);
+        }
+        return create(index, repository, dryRun);
+    }
+
+    private <T> T create(final int index, final BeanRepository repository, final DryRunAware dryRun) {
+        final Object created = prototype.getBean(repository, dryRun);
+        if (stripes.compareAndSet(index, null, created)) {
+            return (T) created;
+        }
+        return (T) stripes.get(index);
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.resolveBeanType(repository, dryRun);
+    }
+
+    @Override public String getRepositoryId() {
+        return prototype.getRepositoryId();
+    }
+
+    @Override public void bindDependencies(final BeanRepository repository) {
+        prototype.bindDependencies(repository);
+    }
+
+    /**
+     * Returns the already created Stripes, in the Order of the Stripes.
+     */
+    <T> List<T> createdStripes() {
+        final List<T> created = new ArrayList<>(stripes.length());
+        for (int i = 0; i < stripes.length(); i++) {
+            final Object stripe = stripes.get(i);
+            if (stripe != null) {
+                created.add((T) stripe);
+            }
+        }
+        return Collections.unmodifiableList(created);
+    }
+}
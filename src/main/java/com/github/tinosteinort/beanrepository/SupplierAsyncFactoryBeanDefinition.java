@@ -0,0 +1,32 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+class SupplierAsyncFactoryBeanDefinition<T> extends BeanDefinition<T> {
+
+    private final Supplier<AsyncFactory<T>> supplier;
+
+    SupplierAsyncFactoryBeanDefinition(final Scope scope, final Class<T> beanClass,
+            final Supplier<AsyncFactory<T>> supplier) {
+        super(scope, beanClass);
+        this.supplier = supplier;
+    }
+
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Collections.emptyList());
+    }
+
+    @Override protected BeanProvider asBeanProvider(final String repositoryName) {
+        switch (getScope()) {
+            case SINGLETON:
+                return new AsyncSingletonFactoryProvider(repositoryName, repo -> supplier.get());
+            case PROTOTYPE:
+                return new AsyncPrototypeFactoryProvider(repositoryName, repo -> supplier.get());
+            default:
+                throw  new IllegalArgumentException("Scope not supported: " + getScope());
+        }
+    }
+}
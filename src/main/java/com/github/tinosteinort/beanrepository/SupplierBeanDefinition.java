@@ -1,5 +1,8 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 class SupplierBeanDefinition<T> extends BeanDefinition<T> {
@@ -11,12 +14,24 @@ class SupplierBeanDefinition<T> extends BeanDefinition<T> {
         this.supplier = supplier;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Collections.emptyList());
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
                 return new SingletonProvider(repositoryName, repo -> supplier.get());
             case PROTOTYPE:
                 return new PrototypeProvider(repositoryName, repo -> supplier.get());
+            case POOLED:
+                return pooled(new PrototypeProvider(repositoryName, repo -> supplier.get()));
+            case THREAD:
+                return threadScoped(new PrototypeProvider(repositoryName, repo -> supplier.get()));
+            case STRIPED:
+                return striped(new PrototypeProvider(repositoryName, repo -> supplier.get()));
+            case SCOPED:
+                return scoped(new PrototypeProvider(repositoryName, repo -> supplier.get()));
             default:
                 throw  new IllegalArgumentException("Scope not supported: " + getScope());
         }
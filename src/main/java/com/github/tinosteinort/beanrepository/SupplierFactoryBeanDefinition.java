@@ -1,5 +1,8 @@
 package com.github.tinosteinort.beanrepository;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 class SupplierFactoryBeanDefinition<T> extends BeanDefinition<T> {
@@ -11,6 +14,10 @@ class SupplierFactoryBeanDefinition<T> extends BeanDefinition<T> {
         this.supplier = supplier;
     }
 
+    @Override Optional<List<Class<?>>> getDependencies() {
+        return Optional.of(Collections.emptyList());
+    }
+
     @Override protected BeanProvider asBeanProvider(final String repositoryName) {
         switch (getScope()) {
             case SINGLETON:
@@ -0,0 +1,115 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Provides a Bean with the Scope {@link Scope#THREAD}. The Instances are created by a {@code prototype}
+ *  {@link BeanProvider}, and kept in a {@link ThreadLocal}, so the Access of a Thread to its own Instance
+ *  needs no Synchronisation.
+ * <p>
+ * The Owner of every Instance is also tracked, because a {@link ThreadLocal} gives no Notification if a Thread
+ *  is terminated. The Owner is only weakly referenced, and is enqueued when its Thread is garbage collected.
+ *  Instances of collected Threads are released whenever a new Instance is created, which only polls the Queue.
+ *  Instances of terminated Threads, which are still referenced, are released by
+ *  {@link #releaseTerminatedThreads()}. The Cleanup Hook is executed for every released Instance.
+ */
+class ThreadScopedProvider implements BeanProvider {
+
+    private final BeanProvider prototype;
+    private final Consumer<Object> cleanup;
+    private final ThreadLocal<Owner> instances = new ThreadLocal<>();
+    private final Set<Owner> owners = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Thread> collectedThreads = new ReferenceQueue<>();
+
+    ThreadScopedProvider(final BeanProvider prototype, final Consumer<?> cleanup) {
+        this.prototype = prototype;
+        this.cleanup = (Consumer<Object>) cleanup;
+    }
+
+    @Override public <T> T getBean(final BeanRepository repository, final DryRunAware dryRun) {
+        final Owner owner = instances.get();
+        if (owner != null) {
+            return (T) owner.instance;
+        }
+        if (dryRun.isDryRun()) {
+            return prototype.getBean(repository, dryRun);
+        }
+        return create(repository, dryRun);
+    }
+
+    private <T> T create(final BeanRepository repository, final DryRunAware dryRun) {
+        releaseCollectedThreads();
+        final T instance = prototype.getBean(repository, dryRun);
+        final Owner owner = new Owner(Thread.currentThread(), instance, collectedThreads);
+        instances.set(owner);
+        owners.add(owner);
+        return instance;
+    }
+
+    @Override public Class<?> resolveBeanType(final BeanRepository repository, final DryRunAware dryRun) {
+        return prototype.resolveBeanType(repository, dryRun);
+    }
+
+    @Override public String getRepositoryId() {
+        return prototype.getRepositoryId();
+    }
+
+    @Override public void bindDependencies(final BeanRepository repository) {
+        prototype.bindDependencies(repository);
+    }
+
+    /**
+     * Releases the Instance of the current Thread, if there is one.
+     */
+    void releaseCurrentThread() {
+        final Owner owner = instances.get();
+        if (owner != null) {
+            instances.remove();
+            release(owner);
+        }
+    }
+
+    /**
+     * Releases the Instances of all terminated Threads. Every Owner is checked, so this is not done on every
+     *  Creation of an Instance.
+     */
+    void releaseTerminatedThreads() {
+        releaseCollectedThreads();
+        for (Owner owner : owners) {
+            final Thread thread = owner.get();
+            if (thread == null || !thread.isAlive()) {
+                release(owner);
+            }
+        }
+    }
+
+    private void releaseCollectedThreads() {
+        Owner owner;
+        while ((owner = (Owner) collectedThreads.poll()) != null) {
+            release(owner);
+        }
+    }
+
+    private void release(final Owner owner) {
+        if (owners.remove(owner)) {
+            cleanup.accept(owner.instance);
+        }
+    }
+
+    /**
+     * The Instance of a Thread, which references the Thread weakly.
+     */
+    private static final class Owner extends WeakReference<Thread> {
+
+        private final Object instance;
+
+        Owner(final Thread thread, final Object instance, final ReferenceQueue<Thread> queue) {
+            super(thread, queue);
+            this.instance = instance;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps a Class to all Beans of a {@link BeanRepository}, which have a 'is a'-Relation to that Class. The Type
+ *  of a Bean is the Class with which the Bean is registered, or the Type which is returned by
+ *  {@link Factory#getBeanType()}. The Types are resolved once, so no Bean has to be created to find the Beans
+ *  of a Class. The Beans of a Class are determined on the first Request for that Class.
+ */
+class TypeIndex {
+
+    private final Map<BeanProvider, Class<?>> beanTypes;
+    private final ConcurrentMap<Class<?>, List<BeanProvider>> assignableProviders = new ConcurrentHashMap<>();
+
+    TypeIndex(final Map<BeanProvider, Class<?>> beanTypes) {
+        this.beanTypes = beanTypes;
+    }
+
+    List<BeanProvider> providersOf(final Class<?> cls) {
+        return assignableProviders.computeIfAbsent(cls, this::findProviders);
+    }
+
+    private List<BeanProvider> findProviders(final Class<?> cls) {
+        final List<BeanProvider> providers = new ArrayList<>();
+        for (Map.Entry<BeanProvider, Class<?>> entry : beanTypes.entrySet()) {
+            if (cls.isAssignableFrom(entry.getValue())) {
+                providers.add(entry.getKey());
+            }
+        }
+        return providers.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(providers);
+    }
+}
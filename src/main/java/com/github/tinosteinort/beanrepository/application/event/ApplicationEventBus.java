@@ -1,8 +1,18 @@
 package com.github.tinosteinort.beanrepository.application.event;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface ApplicationEventBus {
 
     <T extends ApplicationEvent> void register(ApplicationEventListener<T> listener);
 
     <T extends ApplicationEvent> void fireEvent(T event);
+
+    /**
+     * @return the Number of registered Listeners per Class of Event.
+     */
+    default Map<Class<? extends ApplicationEvent>, Integer> getListenerCounts() {
+        return Collections.emptyMap();
+    }
 }
@@ -2,6 +2,8 @@ package com.github.tinosteinort.beanrepository.application.event;
 
 import com.github.tinosteinort.beanrepository.BeanAccessor;
 
+import java.util.Map;
+
 public class ApplicationEventBusDelegate implements ApplicationEventBus {
 
     private final BeanAccessor beans;
@@ -17,4 +19,8 @@ public class ApplicationEventBusDelegate implements ApplicationEventBus {
     @Override public <T extends ApplicationEvent> void fireEvent(T event) {
         beans.getBean(ApplicationEventBusImpl.class).fireEvent(event);
     }
+
+    @Override public Map<Class<? extends ApplicationEvent>, Integer> getListenerCounts() {
+        return beans.getBean(ApplicationEventBusImpl.class).getListenerCounts();
+    }
 }
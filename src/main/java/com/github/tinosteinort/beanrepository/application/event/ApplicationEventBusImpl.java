@@ -1,13 +1,18 @@
 package com.github.tinosteinort.beanrepository.application.event;
 
 import com.github.tinosteinort.beanrepository.BeanRepository;
+import com.github.tinosteinort.beanrepository.FlightRecorderEvents;
 import com.github.tinosteinort.beanrepository.PostConstructible;
+import com.github.tinosteinort.beanrepository.RepositoryMetrics;
 
+import java.util.Map;
 import java.util.Objects;
 
 class ApplicationEventBusImpl implements ApplicationEventBus, PostConstructible {
 
     private final ApplicationEventListeners listeners = new ApplicationEventListeners();
+    private FlightRecorderEvents flightRecorderEvents;
+    private RepositoryMetrics metrics = RepositoryMetrics.NOOP;
 
     @Override public <T extends ApplicationEvent> void register(final ApplicationEventListener<T> listener) {
         listeners.register(listener);
@@ -15,12 +20,25 @@ class ApplicationEventBusImpl implements ApplicationEventBus, PostConstructible
 
     @Override public <T extends ApplicationEvent> void fireEvent(final T event) {
         Objects.requireNonNull(event, "Event must not be null");
+        final FlightRecorderEvents events = flightRecorderEvents;
+        metrics.eventPublished(event.getClass());
         for (ApplicationEventListener listener : listeners.listenersFor(event.getClass())) {
+            metrics.eventDelivered(event.getClass());
+            final Object delivery = events != null ? events.beginEventDelivery() : null;
             listener.onEvent(event);
+            if (delivery != null) {
+                events.commitEventDelivery(delivery, event.getClass(), listener);
+            }
         }
     }
 
+    @Override public Map<Class<? extends ApplicationEvent>, Integer> getListenerCounts() {
+        return listeners.listenerCounts();
+    }
+
     @Override public void onPostConstruct(final BeanRepository repository) {
+        flightRecorderEvents = repository.getFlightRecorderEvents().orElse(null);
+        metrics = repository.getMetrics();
         for (ApplicationEventListener<? extends ApplicationEvent> listener : repository
                 .getBeansOfType(ApplicationEventListener.class)) {
             listeners.register(listener);
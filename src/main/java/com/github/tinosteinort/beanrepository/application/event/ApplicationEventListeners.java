@@ -1,23 +1,35 @@
 package com.github.tinosteinort.beanrepository.application.event;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * The registered Listeners per Class of Event. Listeners may be registered while Events are published or the
+ *  Counts are read, e.g. by JMX.
+ */
 class ApplicationEventListeners {
 
     private final Map<Class<? extends ApplicationEvent>, List<ApplicationEventListener<? extends ApplicationEvent>>>
-            listeners = new HashMap<>();
+            listeners = new ConcurrentHashMap<>();
 
     public <T extends ApplicationEvent> void register(final ApplicationEventListener<T> listener) {
 
+        if (listener.getEventClass() == null) {
+            throw new IllegalArgumentException("Event class of listener " + listener + " must not be null");
+        }
         final List<ApplicationEventListener<? extends ApplicationEvent>> listenersForEventClass = listeners
-                .computeIfAbsent(listener.getEventClass(), key -> new ArrayList<>());
+                .computeIfAbsent(listener.getEventClass(), key -> new CopyOnWriteArrayList<>());
         listenersForEventClass.add(listener);
     }
 
+    /**
+     * @return the registered List itself, without a Copy. An Iteration over the List sees the Listeners which are
+     *  registered when the Iteration starts. The List must not be modified.
+     */
     public <T extends ApplicationEvent> List<ApplicationEventListener<? extends ApplicationEvent>> listenersFor(
             final Class<T> eventClass) {
 
@@ -25,6 +37,15 @@ class ApplicationEventListeners {
         if (eventListeners == null) {
             return Collections.emptyList();
         }
-        return new ArrayList<>(eventListeners);
+        return eventListeners;
+    }
+
+    public Map<Class<? extends ApplicationEvent>, Integer> listenerCounts() {
+        final Map<Class<? extends ApplicationEvent>, Integer> counts = new HashMap<>();
+        for (Map.Entry<Class<? extends ApplicationEvent>, List<ApplicationEventListener<? extends ApplicationEvent>>>
+                entry : listeners.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().size());
+        }
+        return Collections.unmodifiableMap(counts);
     }
 }
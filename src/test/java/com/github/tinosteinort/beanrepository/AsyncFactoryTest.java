@@ -0,0 +1,273 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncFactoryTest {
+
+    @Test public void buildStartsAllAsyncFactoriesConcurrently() {
+
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncConnectionFactory(bothStarted))
+                .singletonAsyncFactory(AsyncCache.class, () -> new AsyncCacheFactory(bothStarted))
+                .build();
+
+        assertTrue(repository.getBean(AsyncConnection.class).metOther);
+        assertTrue(repository.getBean(AsyncCache.class).metOther);
+    }
+
+    @Test public void buildWaitsForAsyncSingletons() {
+
+        final CompletableFuture<AsyncConnection> connection = new CompletableFuture<>();
+
+        new Thread(() -> {
+            sleep(50);
+            connection.complete(new AsyncConnection(true));
+        }).start();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<>(
+                        AsyncConnection.class, connection))
+                .build();
+
+        final AsyncConnection bean = repository.getBeanAsync(AsyncConnection.class).getNow(null);
+        assertSame(connection.getNow(null), bean);
+        assertTrue(bean.postConstructed);
+    }
+
+    @Test public void singletonDependsOnAsyncSingleton() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(AsyncConsumer.class, AsyncConsumer::new, AsyncConnection.class)
+                .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<>(
+                        AsyncConnection.class, CompletableFuture.supplyAsync(() -> new AsyncConnection(true))))
+                .build();
+
+        assertSame(repository.getBean(AsyncConnection.class),
+                repository.getBean(AsyncConsumer.class).connection);
+    }
+
+    @Test public void lazySingletonIsCreatedOnceByAsyncRequests() throws Exception {
+
+        final CompletableFuture<AsyncConnection> connection = new CompletableFuture<>();
+        final AtomicInteger created = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<AsyncConnection>(
+                        AsyncConnection.class, connection) {
+                    @Override public CompletionStage<AsyncConnection> createInstance() {
+                        created.incrementAndGet();
+                        return super.createInstance();
+                    }
+                })
+                .enableLazySingletonBeans(true)
+                .build();
+
+        final CompletableFuture<AsyncConnection> first = repository.getBeanAsync(AsyncConnection.class);
+        final CompletableFuture<AsyncConnection> second = repository.getBeanAsync(AsyncConnection.class);
+        assertFalse(first.isDone());
+
+        connection.complete(new AsyncConnection(true));
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertSame(first.get(), repository.getBean(AsyncConnection.class));
+        assertEquals(1, created.get());
+    }
+
+    @Test public void failedSingletonFailsBuild() {
+
+        final CompletableFuture<AsyncConnection> connection = new CompletableFuture<>();
+        connection.completeExceptionally(new IllegalStateException("connection refused"));
+
+        try {
+            new BeanRepository.BeanRepositoryBuilder()
+                    .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<>(
+                            AsyncConnection.class, connection))
+                    .build();
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("connection refused", ex.getMessage());
+        }
+    }
+
+    @Test public void failedLazySingletonCompletesFutureExceptionally() throws Exception {
+
+        final CompletableFuture<AsyncConnection> connection = new CompletableFuture<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singletonAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<>(
+                        AsyncConnection.class, connection))
+                .enableLazySingletonBeans(true)
+                .build();
+
+        final CompletableFuture<AsyncConnection> bean = repository.getBeanAsync(AsyncConnection.class);
+        connection.completeExceptionally(new IllegalStateException("connection refused"));
+
+        try {
+            bean.get(5, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        }
+        catch (ExecutionException ex) {
+            assertEquals("connection refused", ex.getCause().getMessage());
+        }
+    }
+
+    @Test public void prototypeIsCreatedForEveryRequest() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .prototypeAsyncFactory(AsyncConnection.class, () -> new AsyncCompletableFactory<>(
+                        AsyncConnection.class, CompletableFuture.supplyAsync(() -> new AsyncConnection(true))))
+                .build();
+
+        final AsyncConnection first = repository.getBeanAsync(AsyncConnection.class).get(5, TimeUnit.SECONDS);
+        final AsyncConnection second = repository.getBean(AsyncConnection.class);
+
+        assertNotSame(first, second);
+        assertTrue(first.postConstructed);
+        assertTrue(second.postConstructed);
+    }
+
+    @Test public void otherBeansAreReturnedAsCompletedFuture() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(AsyncCache.class, () -> new AsyncCache(true))
+                .build();
+
+        final CompletableFuture<AsyncCache> bean = repository.getBeanAsync(AsyncCache.class);
+
+        assertTrue(bean.isDone());
+        assertSame(repository.getBean(AsyncCache.class), bean.getNow(null));
+    }
+
+    @Test public void asyncFactoryDefinesTypeOfBean() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singletonAsyncFactory(Object.class, () -> new AsyncCompletableFactory<Object>(
+                        (Class) AsyncConnection.class, CompletableFuture.completedFuture(new AsyncConnection(true))))
+                .build();
+
+        assertEquals(1, repository.getBeansOfType(AsyncConnection.class).size());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+class AsyncConnection implements PostConstructible {
+
+    final boolean metOther;
+    volatile boolean postConstructed;
+
+    AsyncConnection(final boolean metOther) {
+        this.metOther = metOther;
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        postConstructed = true;
+    }
+}
+
+class AsyncCache {
+
+    final boolean metOther;
+
+    AsyncCache(final boolean metOther) {
+        this.metOther = metOther;
+    }
+}
+
+class AsyncConsumer {
+
+    final AsyncConnection connection;
+
+    AsyncConsumer(final AsyncConnection connection) {
+        this.connection = connection;
+    }
+}
+
+class AsyncCompletableFactory<T> implements AsyncFactory<T> {
+
+    private final Class<T> beanType;
+    private final CompletableFuture<T> creation;
+
+    AsyncCompletableFactory(final Class<T> beanType, final CompletableFuture<T> creation) {
+        this.beanType = beanType;
+        this.creation = creation;
+    }
+
+    @Override public CompletionStage<T> createInstance() {
+        return creation;
+    }
+
+    @Override public Class<T> getBeanType() {
+        return beanType;
+    }
+}
+
+class AsyncConnectionFactory implements AsyncFactory<AsyncConnection> {
+
+    private final CountDownLatch bothStarted;
+
+    AsyncConnectionFactory(final CountDownLatch bothStarted) {
+        this.bothStarted = bothStarted;
+    }
+
+    @Override public CompletionStage<AsyncConnection> createInstance() {
+        bothStarted.countDown();
+        return CompletableFuture.supplyAsync(() -> new AsyncConnection(awaitOther(bothStarted)));
+    }
+
+    @Override public Class<AsyncConnection> getBeanType() {
+        return AsyncConnection.class;
+    }
+
+    static boolean awaitOther(final CountDownLatch bothStarted) {
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
+
+class AsyncCacheFactory implements AsyncFactory<AsyncCache> {
+
+    private final CountDownLatch bothStarted;
+
+    AsyncCacheFactory(final CountDownLatch bothStarted) {
+        this.bothStarted = bothStarted;
+    }
+
+    @Override public CompletionStage<AsyncCache> createInstance() {
+        bothStarted.countDown();
+        return CompletableFuture.supplyAsync(() -> new AsyncCache(AsyncConnectionFactory.awaitOther(bothStarted)));
+    }
+
+    @Override public Class<AsyncCache> getBeanType() {
+        return AsyncCache.class;
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BackgroundInitialisationTest {
+
+    @Test public void buildReturnsBeforeBeansAreCreated() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+        final List<Runnable> tasks = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(WarmUpDatabase.class, () -> new WarmUpDatabase(created))
+                .enableBackgroundSingletonInitialisation(tasks::add)
+                .build();
+
+        assertEquals(Collections.emptyList(), created);
+        assertFalse(repository.getBackgroundInitialisation().isDone());
+
+        tasks.forEach(Runnable::run);
+
+        assertEquals(Collections.singletonList("database"), created);
+        assertTrue(repository.getBackgroundInitialisation().isDone());
+    }
+
+    @Test public void beansAreInitialisedInOrderOfDependencies() throws Exception {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(WarmUpService.class, WarmUpService::new, CopyOnWriteArrayList.class, WarmUpDatabase.class)
+                .singleton(WarmUpDatabase.class, () -> new WarmUpDatabase(created))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor())
+                .build();
+
+        repository.getBackgroundInitialisation().get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("database", "service"), created);
+    }
+
+    @Test public void requestWaitsForBeanInProgress() throws Exception {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(WarmUpSlowCache.class, () -> new WarmUpSlowCache(created, started, release))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor())
+                .build();
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<WarmUpSlowCache> requested = CompletableFuture.supplyAsync(
+                () -> repository.getBean(WarmUpSlowCache.class));
+        release.countDown();
+
+        repository.getBackgroundInitialisation().get(5, TimeUnit.SECONDS);
+        assertSame(repository.getBean(WarmUpSlowCache.class), requested.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("cache"), created);
+    }
+
+    @Test public void onlyGivenBeansAndTheirDependenciesAreInitialised() throws Exception {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(WarmUpDatabase.class, () -> new WarmUpDatabase(created))
+                .singleton(WarmUpService.class, WarmUpService::new, CopyOnWriteArrayList.class, WarmUpDatabase.class)
+                .singleton(WarmUpAdminTool.class, () -> new WarmUpAdminTool(created))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor(), WarmUpService.class)
+                .build();
+
+        repository.getBackgroundInitialisation().get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("database", "service"), created);
+
+        repository.getBean(WarmUpAdminTool.class);
+        assertEquals(Arrays.asList("database", "service", "admin"), created);
+    }
+
+    @Test public void otherBeansAreInitialisedIfOneFails() throws Exception {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(WarmUpAdminTool.class, () -> {
+                    throw new IllegalStateException("admin tool failed");
+                })
+                .singleton(WarmUpDatabase.class, () -> new WarmUpDatabase(created))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor())
+                .build();
+
+        try {
+            repository.getBackgroundInitialisation().get(5, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        }
+        catch (ExecutionException ex) {
+            assertEquals("admin tool failed", ex.getCause().getMessage());
+        }
+        assertEquals(Collections.singletonList("database"), created);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenBeanMustBeSingleton() {
+        new BeanRepository.BeanRepositoryBuilder()
+                .prototype(WarmUpAdminTool.class, () -> new WarmUpAdminTool(new ArrayList<>()))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor(), WarmUpAdminTool.class)
+                .build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void notCombinableWithParallelInitialisation() {
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor())
+                .enableParallelSingletonInitialisation(Executors.newSingleThreadExecutor(), 2)
+                .build();
+    }
+}
+
+class WarmUpDatabase {
+
+    WarmUpDatabase(final List<String> created) {
+        created.add("database");
+    }
+}
+
+class WarmUpService {
+
+    WarmUpService(final List<String> created, final WarmUpDatabase database) {
+        created.add("service");
+    }
+}
+
+class WarmUpAdminTool {
+
+    WarmUpAdminTool(final List<String> created) {
+        created.add("admin");
+    }
+}
+
+class WarmUpSlowCache {
+
+    WarmUpSlowCache(final List<String> created, final CountDownLatch started, final CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        created.add("cache");
+    }
+}
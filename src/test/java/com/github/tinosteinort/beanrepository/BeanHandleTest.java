@@ -0,0 +1,82 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BeanHandleTest {
+
+    @Test public void singletonHandle() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(HandleSingleton.class, HandleSingleton::new)
+                .build();
+
+        final BeanHandle<HandleSingleton> handle = repository.handle(HandleSingleton.class);
+
+        assertSame(repository.getBean(HandleSingleton.class), handle.get());
+        assertSame(handle.get(), handle.get());
+    }
+
+    @Test public void prototypeHandle() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .prototype(HandlePrototype.class, HandlePrototype::new)
+                .build();
+
+        final BeanHandle<HandlePrototype> handle = repository.handle(HandlePrototype.class);
+
+        assertNotSame(handle.get(), handle.get());
+    }
+
+    @Test public void aliasAndBeanShareHandleIndex() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(HandleSingleton.class, HandleSingleton::new)
+                .alias(HandleInterface.class, HandleSingleton.class)
+                .build();
+
+        final BeanHandle<HandleSingleton> handle = repository.handle(HandleSingleton.class);
+        final BeanHandle<HandleInterface> aliasHandle = repository.handle(HandleInterface.class);
+
+        assertEquals(handle.index(), aliasHandle.index());
+        assertSame(handle.get(), aliasHandle.get());
+    }
+
+    @Test public void handleToBeanOfParent() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(HandleSingleton.class, HandleSingleton::new)
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .prototype(HandlePrototype.class, HandlePrototype::new)
+                .build();
+
+        assertSame(parent.getBean(HandleSingleton.class), child.handle(HandleSingleton.class).get());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void noHandleForUnknownBean() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(HandleSingleton.class, HandleSingleton::new)
+                .build();
+
+        repository.handle(HandlePrototype.class);
+    }
+}
+
+interface HandleInterface {
+
+}
+
+class HandleSingleton implements HandleInterface {
+
+}
+
+class HandlePrototype {
+
+}
@@ -0,0 +1,148 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BoundDependenciesTest {
+
+    @Test public void singletonAndInstanceAreBound() {
+
+        final BoundInstance instance = new BoundInstance();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(BoundSingleton.class, beans -> new BoundSingleton(new AtomicInteger()))
+                .instance(instance)
+                .prototype(BoundPrototype.class, BoundPrototype::new, BoundSingleton.class, BoundInstance.class)
+                .build();
+
+        final BoundPrototype first = repository.getBean(BoundPrototype.class);
+        final BoundPrototype second = repository.getBean(BoundPrototype.class);
+
+        assertNotSame(first, second);
+        assertSame(repository.getBean(BoundSingleton.class), first.singleton);
+        assertSame(repository.getBean(BoundSingleton.class), second.singleton);
+        assertSame(instance, first.instance);
+        assertSame(instance, second.instance);
+    }
+
+    @Test public void lazySingletonIsCreatedOnce() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(BoundSingleton.class, () -> new BoundSingleton(creations))
+                .instance(new BoundInstance())
+                .prototype(BoundPrototype.class, BoundPrototype::new, BoundSingleton.class, BoundInstance.class)
+                .build();
+
+        assertEquals(0, creations.get());
+
+        final BoundPrototype first = repository.getBean(BoundPrototype.class);
+        final BoundPrototype second = repository.getBean(BoundPrototype.class);
+
+        assertEquals(1, creations.get());
+        assertSame(first.singleton, second.singleton);
+    }
+
+    @Test public void singletonOfBackgroundInitialisationIsCreatedOnce() {
+
+        final AtomicInteger creations = new AtomicInteger();
+        final List<Runnable> background = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableBackgroundSingletonInitialisation(background::add)
+                .singleton(BoundSingleton.class, () -> new BoundSingleton(creations))
+                .instance(new BoundInstance())
+                .prototype(BoundPrototype.class, BoundPrototype::new, BoundSingleton.class, BoundInstance.class)
+                .build();
+        final int dryRunCreations = creations.get();
+
+        final BoundPrototype first = repository.getBean(BoundPrototype.class);
+        background.forEach(Runnable::run);
+        final BoundPrototype second = repository.getBean(BoundPrototype.class);
+
+        assertEquals(dryRunCreations + 1, creations.get());
+        assertSame(first.singleton, second.singleton);
+        assertSame(repository.getBean(BoundSingleton.class), second.singleton);
+    }
+
+    @Test public void singletonCreatedAfterBindingIsBoundDirectly() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(BoundSingleton.class, () -> new BoundSingleton(new AtomicInteger()))
+                .build();
+
+        final BoundDependency<BoundSingleton> dependency = new BoundDependency<>(BoundSingleton.class);
+        dependency.bind(repository);
+
+        final BoundSingleton singleton = dependency.get(repository.accessor());
+
+        assertSame(singleton, dependency.get(repository.accessor()));
+        assertSame(singleton, dependency.boundBean());
+    }
+
+    @Test public void prototypeDependencyIsCreatedEveryTime() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .prototype(BoundInstance.class, BoundInstance::new)
+                .prototype(BoundNestedPrototype.class, BoundNestedPrototype::new, BoundInstance.class)
+                .build();
+
+        final BoundNestedPrototype first = repository.getBean(BoundNestedPrototype.class);
+        final BoundNestedPrototype second = repository.getBean(BoundNestedPrototype.class);
+
+        assertNotSame(first.instance, second.instance);
+    }
+
+    @Test public void prototypeOfParentIsRequestedByChild() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder()
+                .instance(new BoundInstance())
+                .prototype(BoundNestedPrototype.class, BoundNestedPrototype::new, BoundInstance.class)
+                .build();
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .build();
+
+        assertSame(parent.getBean(BoundInstance.class), child.getBean(BoundNestedPrototype.class).instance);
+    }
+}
+
+class BoundSingleton {
+
+    BoundSingleton(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
+class BoundInstance {
+
+}
+
+class BoundPrototype {
+
+    final BoundSingleton singleton;
+    final BoundInstance instance;
+
+    BoundPrototype(final BoundSingleton singleton, final BoundInstance instance) {
+        this.singleton = singleton;
+        this.instance = instance;
+    }
+}
+
+class BoundNestedPrototype {
+
+    final BoundInstance instance;
+
+    BoundNestedPrototype(final BoundInstance instance) {
+        this.instance = instance;
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ConcurrentSingletonInitialisationTest {
+
+    private static final int THREADS = 16;
+
+    @Test public void singletonIsCreatedOnceForConcurrentRequests() throws Exception {
+
+        final AtomicInteger creations = new AtomicInteger();
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(SlowSingleton.class, () -> new SlowSingleton(creations))
+                .build();
+
+        final List<SlowSingleton> beans = requestConcurrently(repository, SlowSingleton.class);
+
+        assertEquals(1, creations.get());
+        for (SlowSingleton bean : beans) {
+            assertSame(beans.get(0), bean);
+            assertEquals(1, bean.postConstructCounter.get());
+        }
+    }
+
+    @Test public void singletonFactoryIsCreatedOnceForConcurrentRequests() throws Exception {
+
+        final AtomicInteger creations = new AtomicInteger();
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singletonFactory(SlowSingleton.class, () -> new SlowSingletonFactory(creations))
+                .build();
+
+        final List<SlowSingleton> beans = requestConcurrently(repository, SlowSingleton.class);
+
+        assertEquals(1, creations.get());
+        for (SlowSingleton bean : beans) {
+            assertSame(beans.get(0), bean);
+        }
+    }
+
+    @Test public void failedCreationIsRetriedOnNextRequest() {
+
+        final AtomicBoolean fail = new AtomicBoolean(false);
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(SlowSingleton.class, () -> {
+                    if (fail.get()) {
+                        throw new IllegalStateException("creation fails");
+                    }
+                    return new SlowSingleton(new AtomicInteger());
+                })
+                .build();
+
+        fail.set(true);
+        try {
+            repository.getBean(SlowSingleton.class);
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("creation fails", ex.getMessage());
+        }
+
+        fail.set(false);
+        assertNotNull(repository.getBean(SlowSingleton.class));
+    }
+
+    private <T> List<T> requestConcurrently(final BeanRepository repository, final Class<T> cls)
+            throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return repository.getBean(cls);
+                }));
+            }
+            start.countDown();
+
+            final List<T> result = new ArrayList<>();
+            for (Future<T> future : futures) {
+                result.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return result;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+}
+
+class SlowSingleton implements PostConstructible {
+
+    final AtomicInteger postConstructCounter = new AtomicInteger();
+
+    SlowSingleton(final AtomicInteger creations) {
+        creations.incrementAndGet();
+        try {
+            Thread.sleep(50);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        postConstructCounter.incrementAndGet();
+    }
+}
+
+class SlowSingletonFactory implements Factory<SlowSingleton> {
+
+    private final AtomicInteger creations;
+
+    SlowSingletonFactory(final AtomicInteger creations) {
+        this.creations = creations;
+    }
+
+    @Override public SlowSingleton createInstance() {
+        return new SlowSingleton(creations);
+    }
+
+    @Override public Class<SlowSingleton> getBeanType() {
+        return SlowSingleton.class;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class DeclaredDependenciesTest {
+
+    @Test public void noBeanIsCreatedOnBuildWithLazySingletons() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(DeclaredRoot.class, () -> new DeclaredRoot(creations))
+                .singleton(DeclaredMiddle.class, root -> new DeclaredMiddle(creations, root), DeclaredRoot.class)
+                .prototype(DeclaredLeaf.class, middle -> new DeclaredLeaf(creations, middle), DeclaredMiddle.class)
+                .build();
+
+        assertEquals(0, creations.get());
+    }
+
+    @Test public void everySingletonIsCreatedOnceOnBuild() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(DeclaredRoot.class, () -> new DeclaredRoot(creations))
+                .singleton(DeclaredMiddle.class, root -> new DeclaredMiddle(creations, root), DeclaredRoot.class)
+                .prototype(DeclaredLeaf.class, middle -> new DeclaredLeaf(creations, middle), DeclaredMiddle.class)
+                .build();
+
+        assertEquals(2, creations.get());
+        assertNotNull(repository.getBean(DeclaredLeaf.class));
+    }
+
+    @Test public void beanWithoutDeclaredDependenciesIsCreatedInDryRun() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(DeclaredRoot.class, () -> new DeclaredRoot(creations))
+                .singleton(DeclaredMiddle.class, beans -> new DeclaredMiddle(creations, beans.getBean(DeclaredRoot.class)))
+                .build();
+
+        assertEquals(2, creations.get());
+    }
+
+    @Test public void cycleOfDeclaredDependencies() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        try {
+            new BeanRepository.BeanRepositoryBuilder()
+                    .singleton(DeclaredCycleA.class, b -> new DeclaredCycleA(creations), DeclaredCycleB.class)
+                    .singleton(DeclaredCycleB.class, c -> new DeclaredCycleB(creations), DeclaredCycleC.class)
+                    .singleton(DeclaredCycleC.class, a -> new DeclaredCycleC(creations), DeclaredCycleA.class)
+                    .build();
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("Cyclic Reference between Beans: "
+                    + DeclaredCycleA.class.getName() + " -> "
+                    + DeclaredCycleB.class.getName() + " -> "
+                    + DeclaredCycleC.class.getName() + " -> "
+                    + DeclaredCycleA.class.getName(), ex.getMessage());
+        }
+        assertEquals(0, creations.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void beanDependsOnItself() {
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .singleton(DeclaredCycleA.class, a -> new DeclaredCycleA(new AtomicInteger()), DeclaredCycleA.class)
+                .build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cycleByAlias() {
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .singleton(DeclaredCycleA.class, b -> new DeclaredCycleA(new AtomicInteger()), DeclaredCycle.class)
+                .singleton(DeclaredCycleB.class, a -> new DeclaredCycleB(new AtomicInteger()), DeclaredCycleA.class)
+                .alias(DeclaredCycle.class, DeclaredCycleB.class)
+                .build();
+    }
+
+    @Test public void missingDependency() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        try {
+            new BeanRepository.BeanRepositoryBuilder()
+                    .singleton(DeclaredMiddle.class, root -> new DeclaredMiddle(creations, root), DeclaredRoot.class)
+                    .build();
+            fail("RuntimeException expected");
+        }
+        catch (RuntimeException ex) {
+            assertEquals("No Bean registered for Class " + DeclaredRoot.class.getName()
+                    + ", which is required by " + DeclaredMiddle.class.getName(), ex.getMessage());
+        }
+        assertEquals(0, creations.get());
+    }
+
+    @Test public void dependencyOfParentRepository() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(DeclaredRoot.class, () -> new DeclaredRoot(creations))
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .singleton(DeclaredMiddle.class, root -> new DeclaredMiddle(creations, root), DeclaredRoot.class)
+                .build();
+
+        assertEquals(2, creations.get());
+        assertNotNull(child.getBean(DeclaredMiddle.class));
+    }
+}
+
+class DeclaredRoot {
+
+    DeclaredRoot(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
+class DeclaredMiddle {
+
+    DeclaredMiddle(final AtomicInteger creations, final DeclaredRoot root) {
+        creations.incrementAndGet();
+    }
+}
+
+class DeclaredLeaf {
+
+    DeclaredLeaf(final AtomicInteger creations, final DeclaredMiddle middle) {
+        creations.incrementAndGet();
+    }
+}
+
+interface DeclaredCycle {
+
+}
+
+class DeclaredCycleA {
+
+    DeclaredCycleA(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
+class DeclaredCycleB implements DeclaredCycle {
+
+    DeclaredCycleB(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
+class DeclaredCycleC {
+
+    DeclaredCycleC(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
@@ -0,0 +1,363 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DisposalTest {
+
+    @Test public void beansAreDisposedAfterTheirDependents() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .singleton(DisposableDao.class, beans -> new DisposableDao(
+                        beans.getBean(CopyOnWriteArrayList.class), beans.getBean(DisposableDatabase.class)))
+                .singleton(DisposableService.class, beans -> new DisposableService(
+                        beans.getBean(CopyOnWriteArrayList.class), beans.getBean(DisposableDao.class)))
+                .build();
+
+        repository.close();
+
+        assertEquals(Arrays.asList("service", "dao", "database"), disposed);
+    }
+
+    @Test public void independentBeansAreDisposedInParallel() {
+
+        final CountDownLatch bothDisposing = new CountDownLatch(2);
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(bothDisposing)
+                .singleton(DisposableWaiting.class, beans -> new DisposableWaiting(
+                        beans.getBean(CountDownLatch.class)))
+                .singleton(DisposableOtherWaiting.class, beans -> new DisposableOtherWaiting(
+                        beans.getBean(CountDownLatch.class)))
+                .enableDisposalParallelism(2)
+                .build();
+
+        repository.dispose(Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        assertTrue(repository.getBean(DisposableWaiting.class).metOther);
+        assertTrue(repository.getBean(DisposableOtherWaiting.class).metOther);
+    }
+
+    @Test public void parallelismIsBounded() {
+
+        final DisposalCounter counter = new DisposalCounter();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(counter)
+                .singleton(DisposableCounted.class, DisposableCounted::new, DisposalCounter.class)
+                .singleton(DisposableCountedB.class, DisposableCountedB::new, DisposalCounter.class)
+                .singleton(DisposableCountedC.class, DisposableCountedC::new, DisposalCounter.class)
+                .singleton(DisposableCountedD.class, DisposableCountedD::new, DisposalCounter.class)
+                .enableDisposalParallelism(2)
+                .build();
+
+        repository.close();
+
+        assertEquals(4, counter.disposed.get());
+        assertTrue(counter.maxRunning.get() <= 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismMustBePositive() {
+        new BeanRepository.BeanRepositoryBuilder().enableDisposalParallelism(0);
+    }
+
+    @Test public void dependenciesAreDisposedIfBeanTimesOut() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .singleton(DisposableHanging.class, beans -> new DisposableHanging(
+                        beans.getBean(DisposableDatabase.class)))
+                .enableDisposalTimeouts(Duration.ofSeconds(10), Duration.ofMillis(50))
+                .build();
+
+        try {
+            repository.close();
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("Disposal of Bean " + DisposableHanging.class.getName() + " timed out after 50 ms",
+                    ex.getMessage());
+        }
+
+        assertEquals(Collections.singletonList("database"), disposed);
+    }
+
+    @Test public void remainingBeansAreNotDisposedAfterDeadline() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .singleton(DisposableHanging.class, beans -> new DisposableHanging(
+                        beans.getBean(DisposableDatabase.class)))
+                .build();
+
+        try {
+            repository.dispose(Duration.ofMillis(50), Duration.ofSeconds(10));
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("Disposal deadline of 50 ms exceeded. Beans not disposed: "
+                    + DisposableDatabase.class.getName() + ", " + DisposableHanging.class.getName(),
+                    ex.getMessage());
+        }
+
+        assertEquals(Collections.emptyList(), disposed);
+    }
+
+    @Test public void allFailuresAreCollected() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(DisposableFailing.class, DisposableFailing::new)
+                .singleton(DisposableOtherFailing.class, DisposableOtherFailing::new)
+                .build();
+
+        try {
+            repository.close();
+            fail("RuntimeException expected");
+        }
+        catch (RuntimeException ex) {
+            assertEquals(1, ex.getSuppressed().length);
+            assertEquals("failed", ex.getCause().getMessage());
+            assertEquals("failed", ex.getSuppressed()[0].getCause().getMessage());
+        }
+    }
+
+    @Test public void preDestroyIsExecutedBeforeClose() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposablePreDestroyable.class, beans -> new DisposablePreDestroyable(
+                        beans.getBean(CopyOnWriteArrayList.class)))
+                .build();
+
+        repository.close();
+
+        assertEquals(Arrays.asList("preDestroy", "close"), disposed);
+    }
+
+    @Test public void repositoryIsDisposedOnlyOnce() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .build();
+
+        repository.close();
+        repository.close();
+
+        assertEquals(Collections.singletonList("database"), disposed);
+    }
+
+    @Test public void instanceAndParentBeansAreNotDisposed() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .build();
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder(parent)
+                .instance(new DisposableDao(disposed, null))
+                .singleton(DisposableService.class, beans -> new DisposableService(
+                        beans.getBean(CopyOnWriteArrayList.class), beans.getBean(DisposableDao.class)))
+                .build();
+
+        child.close();
+
+        assertEquals(Collections.singletonList("service"), disposed);
+    }
+
+    @Test public void lazyBeansAreOnlyDisposedIfCreated() {
+
+        final List<String> disposed = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(disposed)
+                .singleton(DisposableDatabase.class, beans -> new DisposableDatabase(
+                        beans.getBean(CopyOnWriteArrayList.class), "database"))
+                .singleton(DisposableDao.class, beans -> new DisposableDao(
+                        beans.getBean(CopyOnWriteArrayList.class), beans.getBean(DisposableDatabase.class)))
+                .enableLazySingletonBeans(true)
+                .build();
+
+        repository.getBean(DisposableDatabase.class);
+        repository.close();
+
+        assertEquals(Collections.singletonList("database"), disposed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timeoutMustBePositive() {
+        new BeanRepository.BeanRepositoryBuilder().enableDisposalTimeouts(Duration.ofSeconds(1), Duration.ZERO);
+    }
+}
+
+class DisposableDatabase implements AutoCloseable {
+
+    private final List<String> disposed;
+    private final String name;
+
+    DisposableDatabase(final List<String> disposed, final String name) {
+        this.disposed = disposed;
+        this.name = name;
+    }
+
+    @Override public void close() {
+        disposed.add(name);
+    }
+}
+
+class DisposableDao extends DisposableDatabase {
+
+    DisposableDao(final List<String> disposed, final DisposableDatabase database) {
+        super(disposed, "dao");
+    }
+}
+
+class DisposableService extends DisposableDatabase {
+
+    DisposableService(final List<String> disposed, final DisposableDao dao) {
+        super(disposed, "service");
+    }
+}
+
+class DisposablePreDestroyable implements PreDestroyable, AutoCloseable {
+
+    private final List<String> disposed;
+
+    DisposablePreDestroyable(final List<String> disposed) {
+        this.disposed = disposed;
+    }
+
+    @Override public void onPreDestroy() {
+        disposed.add("preDestroy");
+    }
+
+    @Override public void close() {
+        disposed.add("close");
+    }
+}
+
+class DisposableWaiting implements PreDestroyable {
+
+    private final CountDownLatch bothDisposing;
+    volatile boolean metOther;
+
+    DisposableWaiting(final CountDownLatch bothDisposing) {
+        this.bothDisposing = bothDisposing;
+    }
+
+    @Override public void onPreDestroy() {
+        bothDisposing.countDown();
+        try {
+            metOther = bothDisposing.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+class DisposableOtherWaiting extends DisposableWaiting {
+
+    DisposableOtherWaiting(final CountDownLatch bothDisposing) {
+        super(bothDisposing);
+    }
+}
+
+class DisposalCounter {
+
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final AtomicInteger disposed = new AtomicInteger();
+}
+
+class DisposableCounted implements AutoCloseable {
+
+    private final DisposalCounter counter;
+
+    DisposableCounted(final DisposalCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override public void close() throws InterruptedException {
+        counter.maxRunning.accumulateAndGet(counter.running.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        counter.running.decrementAndGet();
+        counter.disposed.incrementAndGet();
+    }
+}
+
+class DisposableCountedB extends DisposableCounted {
+
+    DisposableCountedB(final DisposalCounter counter) {
+        super(counter);
+    }
+}
+
+class DisposableCountedC extends DisposableCounted {
+
+    DisposableCountedC(final DisposalCounter counter) {
+        super(counter);
+    }
+}
+
+class DisposableCountedD extends DisposableCounted {
+
+    DisposableCountedD(final DisposalCounter counter) {
+        super(counter);
+    }
+}
+
+class DisposableHanging implements AutoCloseable {
+
+    DisposableHanging(final DisposableDatabase database) {
+
+    }
+
+    @Override public void close() throws InterruptedException {
+        Thread.sleep(60_000);
+    }
+}
+
+class DisposableFailing implements AutoCloseable {
+
+    @Override public void close() {
+        throw new RuntimeException("failed");
+    }
+}
+
+class DisposableOtherFailing extends DisposableFailing {
+
+}
@@ -3,6 +3,7 @@ package com.github.tinosteinort.beanrepository;
 import org.junit.Test;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -71,4 +72,25 @@ public class DryRunAwareTest {
 
         assertFalse(dryRun.isDryRun());
     }
-}
\ No newline at end of file
+
+    @Test public void dryRunIsConfinedToThread() throws InterruptedException {
+
+        DryRunAware dryRun = new DryRunAware();
+        AtomicBoolean dryRunInOtherThread = new AtomicBoolean(true);
+
+        dryRun.execute(() -> {
+            assertTrue(dryRun.isDryRun());
+
+            final Thread otherThread = new Thread(() -> dryRunInOtherThread.set(dryRun.isDryRun()));
+            otherThread.start();
+            try {
+                otherThread.join();
+            }
+            catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+
+        assertFalse(dryRunInOtherThread.get());
+    }
+}
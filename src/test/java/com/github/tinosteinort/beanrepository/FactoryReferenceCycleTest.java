@@ -4,12 +4,12 @@ import org.junit.Test;
 
 /**
  * This test checks if there is an error thrown, when there is a cycle in which factories are involved.
- *  The cycle should be detected in the dryRun, when the BeanRepository is built. Because of this it is
- *  important to enable lazy singletons, and expect the StackOverflowError
+ *  The cycle should be detected by the declared dependencies, when the BeanRepository is built. Because of
+ *  this it is important to enable lazy singletons, so that no bean is created.
  */
 public class FactoryReferenceCycleTest {
 
-    @Test(expected = StackOverflowError.class)
+    @Test(expected = IllegalStateException.class)
     public void referenceCycleSingletonFactory() {
         new BeanRepository.BeanRepositoryBuilder()
                 .enableLazySingletonBeans(true)
@@ -18,7 +18,7 @@ public class FactoryReferenceCycleTest {
         .build();
     }
 
-    @Test(expected = StackOverflowError.class)
+    @Test(expected = IllegalStateException.class)
     public void referenceCyclePrototypeFactory() {
         new BeanRepository.BeanRepositoryBuilder()
                 .enableLazySingletonBeans(true)
@@ -0,0 +1,138 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderEventsTest {
+
+    @Before public void flightRecorderIsAvailable() {
+        assumeTrue(FlightRecording.isAvailable());
+    }
+
+    @Test public void creationOfSingletonIsRecorded() throws Exception {
+
+        final FlightRecording recording = new FlightRecording("BeanCreation");
+
+        new BeanRepository.BeanRepositoryBuilder("recorded")
+                .singleton(RecordedService.class, RecordedService::new)
+                .enableFlightRecorderEvents(Duration.ofSeconds(1))
+                .build();
+
+        assertEquals(Collections.singletonList(RecordedService.class.getName() + " SINGLETON recorded"),
+                recording.stop("BeanCreation"));
+    }
+
+    @Test public void creationOfPrototypeIsRecordedForEveryRequest() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("recorded")
+                .prototype(RecordedService.class, RecordedService::new)
+                .enableFlightRecorderEvents(Duration.ofSeconds(1))
+                .build();
+
+        final FlightRecording recording = new FlightRecording("BeanCreation");
+        repository.getBean(RecordedService.class);
+        repository.getBean(RecordedService.class);
+
+        final List<String> events = recording.stop("BeanCreation");
+        assertEquals(2, events.size());
+        assertEquals(RecordedService.class.getName() + " PROTOTYPE recorded", events.get(0));
+    }
+
+    @Test public void creationByFactoryIsRecorded() throws Exception {
+
+        final FlightRecording recording = new FlightRecording("BeanCreation");
+
+        new BeanRepository.BeanRepositoryBuilder("recorded")
+                .singletonFactory(RecordedService.class, RecordedServiceFactory::new)
+                .enableFlightRecorderEvents(Duration.ofSeconds(1))
+                .build();
+
+        final List<String> events = recording.stop("BeanCreation");
+        assertTrue(events.contains(RecordedServiceFactory.class.getName() + " SINGLETON recorded"));
+        assertTrue(events.contains(RecordedService.class.getName() + " SINGLETON recorded"));
+    }
+
+    @Test public void postConstructIsRecorded() throws Exception {
+
+        final FlightRecording recording = new FlightRecording("PostConstruct");
+
+        new BeanRepository.BeanRepositoryBuilder("recorded")
+                .singleton(RecordedService.class, RecordedService::new)
+                .singleton(RecordedInitialisedService.class, RecordedInitialisedService::new)
+                .enableFlightRecorderEvents(Duration.ofSeconds(1))
+                .build();
+
+        assertEquals(Collections.singletonList(RecordedInitialisedService.class.getName() + " SINGLETON recorded"),
+                recording.stop("PostConstruct"));
+    }
+
+    @Test public void onlySlowLookupsAreRecorded() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("recorded")
+                .singleton(RecordedService.class, RecordedService::new)
+                .prototype(RecordedSlowService.class, RecordedSlowService::new)
+                .enableFlightRecorderEvents(Duration.ofMillis(20))
+                .build();
+
+        final FlightRecording recording = new FlightRecording("SlowLookup");
+        repository.getBean(RecordedService.class);
+        repository.getBean(RecordedSlowService.class);
+
+        assertEquals(Collections.singletonList(RecordedSlowService.class.getName() + " PROTOTYPE recorded"),
+                recording.stop("SlowLookup"));
+    }
+
+    @Test public void nothingIsRecordedWithoutEnabling() throws Exception {
+
+        final FlightRecording recording = new FlightRecording("BeanCreation", "PostConstruct", "SlowLookup");
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("recorded")
+                .singleton(RecordedInitialisedService.class, RecordedInitialisedService::new)
+                .build();
+        repository.getBean(RecordedInitialisedService.class);
+
+        assertTrue(recording.stop("BeanCreation").isEmpty());
+        assertFalse(repository.getFlightRecorderEvents().isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thresholdMustNotBeNegative() {
+        new BeanRepository.BeanRepositoryBuilder().enableFlightRecorderEvents(Duration.ofMillis(-1));
+    }
+}
+
+class RecordedService {
+}
+
+class RecordedInitialisedService implements PostConstructible {
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+    }
+}
+
+class RecordedSlowService {
+
+    RecordedSlowService() {
+        StartupReportTest.sleep(30);
+    }
+}
+
+class RecordedServiceFactory implements Factory<RecordedService> {
+
+    @Override public RecordedService createInstance() {
+        return new RecordedService();
+    }
+
+    @Override public Class<RecordedService> getBeanType() {
+        return RecordedService.class;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.tinosteinort.beanrepository;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Recording of the Java Flight Recorder for Tests. The API of the Flight Recorder is accessed by Reflection,
+ *  because the Tests are compiled for Java 8.
+ */
+public class FlightRecording {
+
+    private static final String[] FIELDS = { "beanClass", "scope", "repository", "eventClass" };
+
+    private final Object recording;
+
+    public FlightRecording(final String... eventTypes) throws Exception {
+        recording = Class.forName("jdk.jfr.Recording").getConstructor().newInstance();
+        final Method enable = recording.getClass().getMethod("enable", String.class);
+        for (String eventType : eventTypes) {
+            enable.invoke(recording, prefixed(eventType));
+        }
+        recording.getClass().getMethod("start").invoke(recording);
+    }
+
+    public static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.EventFactory");
+            return true;
+        }
+        catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops the Recording.
+     *
+     * @return the recorded Events of the given Type, every Event as its Fields, separated by a Space:
+     *  the Name of the Bean Class, the Scope, the Repository and the Name of the Event Class, if present.
+     */
+    public List<String> stop(final String eventType) throws Exception {
+        recording.getClass().getMethod("stop").invoke(recording);
+        final Path file = File.createTempFile("beanrepository", ".jfr").toPath();
+        try {
+            recording.getClass().getMethod("dump", Path.class).invoke(recording, file);
+            final List<?> recorded = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class).invoke(null, file);
+
+            final List<String> result = new ArrayList<>();
+            for (Object event : recorded) {
+                final Object type = event.getClass().getMethod("getEventType").invoke(event);
+                if (prefixed(eventType).equals(type.getClass().getMethod("getName").invoke(type))) {
+                    result.add(fieldsOf(event));
+                }
+            }
+            return result;
+        }
+        finally {
+            recording.getClass().getMethod("close").invoke(recording);
+            Files.delete(file);
+        }
+    }
+
+    private static String fieldsOf(final Object event) throws Exception {
+        final List<String> values = new ArrayList<>();
+        for (String field : FIELDS) {
+            if ((Boolean) event.getClass().getMethod("hasField", String.class).invoke(event, field)) {
+                final Object value = event.getClass().getMethod("getValue", String.class).invoke(event, field);
+                if (value != null && value.getClass().getSimpleName().equals("RecordedClass")) {
+                    values.add((String) value.getClass().getMethod("getName").invoke(value));
+                }
+                else {
+                    values.add(String.valueOf(value));
+                }
+            }
+        }
+        return String.join(" ", values);
+    }
+
+    private static String prefixed(final String eventType) {
+        return "com.github.tinosteinort.beanrepository." + eventType;
+    }
+}
@@ -5,9 +5,17 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  * Important note: the method 'getBeansOfType' cannot be called in a constructor.
@@ -37,6 +45,97 @@ public class GetBeansOfTypeTest {
         assertEquals(0, animals.size());
     }
 
+    @Test public void resultOfSingletonsIsCached() {
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(Dog.class, Dog::new)
+                .instance(new Cat())
+                .build();
+
+        assertSame(repo.getBeansOfType(Animal.class), repo.getBeansOfType(Animal.class));
+    }
+
+    @Test public void resultOfPrototypesIsNotCached() {
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(Dog.class, Dog::new)
+                .prototype(Cat.class, Cat::new)
+                .build();
+
+        final Set<Animal> animals = repo.getBeansOfType(Animal.class);
+        assertNotSame(animals, repo.getBeansOfType(Animal.class));
+        assertEquals(2, animals.size());
+    }
+
+    @Test public void prototypeIsNotCreatedToResolveType() {
+        final AtomicInteger creations = new AtomicInteger();
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .prototype(Human.class, () -> new CountedHuman(creations))
+                .singleton(Dog.class, Dog::new)
+                .build();
+
+        assertEquals(1, repo.getBeansOfType(Animal.class).size());
+        assertEquals(0, creations.get());
+    }
+
+    @Test public void beansOfParentAreIncluded() {
+        BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(Dog.class, Dog::new)
+                .build();
+        BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .singleton(Cat.class, Cat::new)
+                .build();
+
+        final Set<Animal> animals = child.getBeansOfType(Animal.class);
+        assertEquals(2, animals.size());
+        assertSame(animals, child.getBeansOfType(Animal.class));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void resultIsUnmodifiable() {
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(Dog.class, Dog::new)
+                .build();
+
+        repo.getBeansOfType(Animal.class).add(new Cat());
+    }
+
+    @Test public void getBeanWhileTypesAreResolvedByOtherThread() throws Exception {
+        final CountDownLatch resolvingTypes = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .prototypeFactory(Dog.class, () -> {
+                    resolvingTypes.countDown();
+                    await(resume);
+                    return new DogFactory();
+                })
+                .singletonFactory(Cat.class, CatFactory::new)
+                .build();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Set<Animal>> animals = executor.submit(() -> repo.getBeansOfType(Animal.class));
+            await(resolvingTypes);
+
+            // The other Thread is in a dry run now, this must not affect this Thread
+            assertNotNull(repo.getBean(Cat.class));
+
+            resume.countDown();
+            assertEquals(2, animals.get(10, TimeUnit.SECONDS).size());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Test a special case of Issue#5
      * <br/><b>
@@ -78,6 +177,13 @@ class Human {
 
 }
 
+class CountedHuman extends Human {
+
+    CountedHuman(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
 class DogFactory implements Factory<Dog> {
 
     @Override public Dog createInstance() {
@@ -89,6 +195,17 @@ class DogFactory implements Factory<Dog> {
     }
 }
 
+class CatFactory implements Factory<Cat> {
+
+    @Override public Cat createInstance() {
+        return new Cat();
+    }
+
+    @Override public Class<Cat> getBeanType() {
+        return Cat.class;
+    }
+}
+
 class AnimalCollector implements PostConstructible {
 
     private final List<Animal> animals = new ArrayList<>();
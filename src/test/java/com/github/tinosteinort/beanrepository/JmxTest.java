@@ -0,0 +1,167 @@
+package com.github.tinosteinort.beanrepository;
+
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBus;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationEventBusConfigurator;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationStartedEvent;
+import com.github.tinosteinort.beanrepository.application.event.ApplicationStartedListener;
+import org.junit.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JmxTest {
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test public void mbeanIsRegisteredByNameAndUnregisteredOnClose() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("jmx-lifecycle")
+                .enableJmx(true)
+                .build();
+
+        assertTrue(server.isRegistered(BeanRepositoryStatistics.objectNameOf("jmx-lifecycle")));
+
+        repository.close();
+        assertFalse(server.isRegistered(BeanRepositoryStatistics.objectNameOf("jmx-lifecycle")));
+    }
+
+    @Test public void noMBeanWithoutEnabling() {
+
+        new BeanRepository.BeanRepositoryBuilder("jmx-disabled").build();
+
+        assertFalse(server.isRegistered(BeanRepositoryStatistics.objectNameOf("jmx-disabled")));
+    }
+
+    @Test public void beansAreCountedByScope() {
+
+        try (BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("jmx-scopes")
+                .singleton(JmxService.class, JmxService::new)
+                .singleton(JmxAdminTool.class, JmxAdminTool::new)
+                .prototype(JmxCommand.class, JmxCommand::new)
+                .instance("configuration")
+                .lazySingletons(JmxAdminTool.class)
+                .enableJmx(true)
+                .build()) {
+
+            final BeanRepositoryMXBean mbean = proxy("jmx-scopes");
+
+            final Map<String, Integer> expected = new HashMap<>();
+            expected.put("SINGLETON", 2);
+            expected.put("PROTOTYPE", 1);
+            expected.put("INSTANCE", 1);
+            assertEquals(expected, mbean.getBeanCountsByScope());
+            assertEquals(Collections.singletonList(JmxService.class.getName()), mbean.getCreatedSingletons());
+            assertEquals(Collections.singletonList(JmxAdminTool.class.getName()), mbean.getLazySingletons());
+            assertEquals(Collections.singleton(JmxService.class.getName()),
+                    mbean.getSingletonCreationTimes().keySet());
+
+            repository.getBean(JmxAdminTool.class);
+            assertEquals(Arrays.asList(JmxService.class.getName(), JmxAdminTool.class.getName()),
+                    mbean.getCreatedSingletons());
+        }
+    }
+
+    @Test public void depthOfParentChain() {
+
+        final BeanRepository root = new BeanRepository.BeanRepositoryBuilder("jmx-root").build();
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("jmx-child", root).build();
+
+        try (BeanRepository grandChild = new BeanRepository.BeanRepositoryBuilder("jmx-grandchild", child)
+                .enableJmx(true)
+                .build()) {
+
+            assertEquals(2, proxy("jmx-grandchild").getParentDepth());
+        }
+    }
+
+    @Test public void listenersAndCountersAreExposed() {
+
+        final CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("jmx-counters");
+        new ApplicationEventBusConfigurator().configure(builder);
+
+        try (BeanRepository repository = builder
+                .singleton(JmxStartedListener.class, JmxStartedListener::new)
+                .singleton(JmxService.class, JmxService::new)
+                .enableMetrics(metrics)
+                .enableJmx(true)
+                .build()) {
+
+            repository.getBean(JmxService.class);
+            final BeanRepositoryMXBean mbean = proxy("jmx-counters");
+
+            assertEquals(Collections.singletonMap(ApplicationStartedEvent.class.getName(), 1),
+                    mbean.getListenerCountsByEventType());
+            assertEquals(Long.valueOf(1), mbean.getBeanRequests().get(JmxService.class.getName()));
+            assertEquals(0, mbean.getSingletonInitialisationWaitCount());
+        }
+    }
+
+    @Test public void readingListenerCountsCreatesNoBean() {
+
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder("jmx-lazy");
+        new ApplicationEventBusConfigurator().configure(builder);
+
+        try (BeanRepository repository = builder
+                .singleton(JmxStartedListener.class, JmxStartedListener::new)
+                .enableLazySingletonBeans(true)
+                .enableJmx(true)
+                .build()) {
+
+            final BeanRepositoryMXBean mbean = proxy("jmx-lazy");
+
+            assertEquals(Collections.emptyMap(), mbean.getListenerCountsByEventType());
+            assertEquals(Collections.emptyList(), mbean.getCreatedSingletons());
+
+            repository.getBean(ApplicationEventBus.class).fireEvent(new ApplicationStartedEvent());
+            assertEquals(Collections.singletonMap(ApplicationStartedEvent.class.getName(), 1),
+                    mbean.getListenerCountsByEventType());
+        }
+    }
+
+    @Test public void nameMustBeUnique() {
+
+        try (BeanRepository repository = new BeanRepository.BeanRepositoryBuilder("jmx-unique")
+                .enableJmx(true)
+                .build()) {
+            try {
+                new BeanRepository.BeanRepositoryBuilder("jmx-unique").enableJmx(true).build();
+                fail("IllegalStateException expected");
+            }
+            catch (IllegalStateException ex) {
+                assertEquals("A BeanRepository with the name 'jmx-unique' is already registered in JMX",
+                        ex.getMessage());
+            }
+        }
+    }
+
+    private BeanRepositoryMXBean proxy(final String name) {
+        return JMX.newMXBeanProxy(server, BeanRepositoryStatistics.objectNameOf(name), BeanRepositoryMXBean.class);
+    }
+}
+
+class JmxService {
+}
+
+class JmxAdminTool {
+}
+
+class JmxCommand {
+}
+
+class JmxStartedListener extends ApplicationStartedListener {
+
+    @Override public void onEvent(final ApplicationStartedEvent event) {
+    }
+}
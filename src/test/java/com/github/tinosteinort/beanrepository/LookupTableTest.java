@@ -0,0 +1,88 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class LookupTableTest {
+
+    @Test public void aliasOfAlias() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(LookupBean.class, LookupBean::new)
+                .alias(LookupLevel1.class, LookupLevel2.class)
+                .alias(LookupLevel2.class, LookupBean.class)
+                .build();
+
+        assertSame(repository.getBean(LookupBean.class), repository.getBean(LookupLevel1.class));
+        assertSame(repository.getBean(LookupBean.class), repository.getBean(LookupLevel2.class));
+    }
+
+    @Test public void aliasToBeanOfParent() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(LookupBean.class, LookupBean::new)
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .alias(LookupLevel1.class, LookupBean.class)
+                .build();
+
+        assertSame(parent.getBean(LookupBean.class), child.getBean(LookupLevel1.class));
+    }
+
+    @Test public void aliasOfParent() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(LookupBean.class, LookupBean::new)
+                .alias(LookupLevel1.class, LookupBean.class)
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .build();
+
+        assertSame(parent.getBean(LookupBean.class), child.getBean(LookupLevel1.class));
+    }
+
+    @Test public void beanOfGrandParent() {
+
+        final BeanRepository grandParent = new BeanRepository.BeanRepositoryBuilder("grandParent")
+                .singleton(LookupBean.class, LookupBean::new)
+                .build();
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent", grandParent)
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .build();
+
+        assertNotNull(child.getBean(LookupBean.class));
+        assertSame(grandParent.getBean(LookupBean.class), child.getBean(LookupBean.class));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void unknownBeanInChild() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder("parent")
+                .singleton(LookupBean.class, LookupBean::new)
+                .build();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .build();
+
+        child.getBean(LookupLevel1.class);
+    }
+}
+
+interface LookupLevel1 {
+
+}
+
+interface LookupLevel2 extends LookupLevel1 {
+
+}
+
+class LookupBean implements LookupLevel2 {
+
+}
@@ -0,0 +1,269 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelSingletonInitialisationTest {
+
+    private ExecutorService executor;
+
+    @Before public void setup() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test public void independentBeansAreConstructedAtTheSameTime() {
+
+        final CountDownLatch allConstructing = new CountDownLatch(3);
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableParallelSingletonInitialisation(executor, 3)
+                .singleton(ParallelBeanA.class, () -> new ParallelBeanA(awaitOthers(allConstructing)))
+                .singleton(ParallelBeanB.class, () -> new ParallelBeanB(awaitOthers(allConstructing)))
+                .singleton(ParallelBeanC.class, () -> new ParallelBeanC(awaitOthers(allConstructing)))
+                .build();
+
+        assertTrue(repository.getBean(ParallelBeanA.class).constructedTogether);
+        assertTrue(repository.getBean(ParallelBeanB.class).constructedTogether);
+        assertTrue(repository.getBean(ParallelBeanC.class).constructedTogether);
+    }
+
+    @Test public void postConstructInOrderOfDependenciesOnBuildingThread() {
+
+        final OrderRecorder recorder = new OrderRecorder();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableParallelSingletonInitialisation(executor, 4)
+                .singleton(OrderedTop.class, OrderedTop::new, OrderedMiddle.class)
+                .singleton(OrderedMiddle.class, OrderedMiddle::new, OrderedBottom.class)
+                .singleton(OrderedBottom.class, OrderedBottom::new)
+                .instance(recorder)
+                .build();
+
+        assertEquals(Arrays.asList("bottom", "middle", "top"), recorder.postConstructs);
+
+        final OrderedTop top = repository.getBean(OrderedTop.class);
+        assertSame(repository.getBean(OrderedMiddle.class), top.middle);
+        assertSame(repository.getBean(OrderedBottom.class), top.middle.bottom);
+        assertSame(Thread.currentThread(), top.postConstructThread);
+        assertSame(Thread.currentThread(), top.middle.postConstructThread);
+        assertSame(Thread.currentThread(), top.middle.bottom.postConstructThread);
+    }
+
+    @Test public void parallelismIsBounded() {
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableParallelSingletonInitialisation(executor, 2)
+                .singleton(ParallelBeanA.class, () -> new ParallelBeanA(measure(running, maxRunning)))
+                .singleton(ParallelBeanB.class, () -> new ParallelBeanB(measure(running, maxRunning)))
+                .singleton(ParallelBeanC.class, () -> new ParallelBeanC(measure(running, maxRunning)))
+                .singleton(ParallelBeanD.class, () -> new ParallelBeanD(measure(running, maxRunning)))
+                .build();
+
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test public void failingBeanCancelsInitialisation() {
+
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder()
+                .enableParallelSingletonInitialisation(executor, 2)
+                .singleton(ParallelBeanA.class, () -> {
+                    throw new IllegalStateException("creation failed");
+                })
+                .singleton(ParallelBeanB.class, () -> new ParallelBeanB(sleep(10_000)));
+
+        final long start = System.nanoTime();
+        try {
+            builder.build();
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("creation failed", ex.getMessage());
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+    }
+
+    @Test public void beansCanBeRequestedInPostConstruct() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableParallelSingletonInitialisation(executor, 4)
+                .singleton(ParallelBeanA.class, () -> new ParallelBeanA(false))
+                .singleton(ParallelCollector.class, ParallelCollector::new)
+                .singleton(ParallelBeanB.class, () -> new ParallelBeanB(false))
+                .build();
+
+        assertNotNull(repository.getBean(ParallelCollector.class).beanA);
+        assertNotNull(repository.getBean(ParallelCollector.class).beanB);
+    }
+
+    @Test(timeout = 10_000)
+    public void beanRequestedByProviderIsConstructedBeforeRequestingBean() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ParallelProviderUser.class,
+                        beans -> new ParallelProviderUser(beans.getProvider(ParallelProvided.class).get()))
+                .singleton(ParallelProvided.class, ParallelProvided::new)
+                .enableParallelSingletonInitialisation(executor, 4)
+                .build();
+
+        assertSame(repository.getBean(ParallelProvided.class),
+                repository.getBean(ParallelProviderUser.class).provided);
+    }
+
+    private static boolean awaitOthers(final CountDownLatch allConstructing) {
+        allConstructing.countDown();
+        try {
+            return allConstructing.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean measure(final AtomicInteger running, final AtomicInteger maxRunning) {
+        final int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        sleep(20);
+        running.decrementAndGet();
+        return true;
+    }
+
+    private static boolean sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
+
+class ParallelBeanA {
+
+    final boolean constructedTogether;
+
+    ParallelBeanA(final boolean constructedTogether) {
+        this.constructedTogether = constructedTogether;
+    }
+}
+
+class ParallelBeanB {
+
+    final boolean constructedTogether;
+
+    ParallelBeanB(final boolean constructedTogether) {
+        this.constructedTogether = constructedTogether;
+    }
+}
+
+class ParallelBeanC {
+
+    final boolean constructedTogether;
+
+    ParallelBeanC(final boolean constructedTogether) {
+        this.constructedTogether = constructedTogether;
+    }
+}
+
+class ParallelBeanD {
+
+    ParallelBeanD(final boolean ignored) {
+    }
+}
+
+class ParallelProvided {
+
+}
+
+class ParallelProviderUser {
+
+    final ParallelProvided provided;
+
+    ParallelProviderUser(final ParallelProvided provided) {
+        this.provided = provided;
+    }
+}
+
+class ParallelCollector implements PostConstructible {
+
+    ParallelBeanA beanA;
+    ParallelBeanB beanB;
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        beanA = repository.getBean(ParallelBeanA.class);
+        beanB = repository.getBean(ParallelBeanB.class);
+    }
+}
+
+class OrderRecorder {
+
+    final List<String> postConstructs = Collections.synchronizedList(new ArrayList<>());
+}
+
+abstract class OrderedBean implements PostConstructible {
+
+    private final String name;
+    Thread postConstructThread;
+
+    OrderedBean(final String name) {
+        this.name = name;
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        postConstructThread = Thread.currentThread();
+        repository.getBean(OrderRecorder.class).postConstructs.add(name);
+    }
+}
+
+class OrderedBottom extends OrderedBean {
+
+    OrderedBottom() {
+        super("bottom");
+    }
+}
+
+class OrderedMiddle extends OrderedBean {
+
+    final OrderedBottom bottom;
+
+    OrderedMiddle(final OrderedBottom bottom) {
+        super("middle");
+        this.bottom = bottom;
+    }
+}
+
+class OrderedTop extends OrderedBean {
+
+    final OrderedMiddle middle;
+
+    OrderedTop(final OrderedMiddle middle) {
+        super("top");
+        this.middle = middle;
+    }
+}
@@ -0,0 +1,326 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PooledScopeTest {
+
+    @Test public void returnedBeanIsReused() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new)
+                .build();
+
+        final PooledParser first;
+        try (Lease<PooledParser> lease = repository.borrow(PooledParser.class)) {
+            first = lease.get();
+        }
+        try (Lease<PooledParser> lease = repository.borrow(PooledParser.class)) {
+            assertSame(first, lease.get());
+        }
+
+        final PoolMetrics metrics = repository.getPoolMetrics(PooledParser.class);
+        assertEquals(1, metrics.getCreated());
+        assertEquals(2, metrics.getBorrowed());
+        assertEquals(2, metrics.getReturned());
+        assertEquals(0, metrics.getLeased());
+        assertEquals(1, metrics.getIdle());
+    }
+
+    @Test public void borrowedBeanIsNotSharedUntilReturned() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new)
+                .build();
+
+        try (Lease<PooledParser> first = repository.borrow(PooledParser.class);
+             Lease<PooledParser> second = repository.borrow(PooledParser.class)) {
+
+            assertNotSame(first.get(), second.get());
+            assertEquals(2, repository.getPoolMetrics(PooledParser.class).getLeased());
+        }
+    }
+
+    @Test public void sizeLimitsIdleBeans() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(2))
+                .build();
+
+        returnAll(borrow(repository, 3));
+
+        final PoolMetrics metrics = repository.getPoolMetrics(PooledParser.class);
+        assertEquals(3, metrics.getCreated());
+        assertEquals(2, metrics.getIdle());
+        assertEquals(1, metrics.getDiscarded());
+    }
+
+    @Test public void maxIdleLimitsIdleBeans() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(4).withMaxIdle(1))
+                .build();
+
+        returnAll(borrow(repository, 3));
+
+        final PoolMetrics metrics = repository.getPoolMetrics(PooledParser.class);
+        assertEquals(1, metrics.getIdle());
+        assertEquals(2, metrics.getDiscarded());
+    }
+
+    @Test public void mostRecentlyReturnedBeanIsReused() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(4))
+                .build();
+
+        final List<Lease<PooledParser>> leases = borrow(repository, 2);
+        final PooledParser last = leases.get(1).get();
+        returnAll(leases);
+
+        try (Lease<PooledParser> lease = repository.borrow(PooledParser.class)) {
+            assertSame(last, lease.get());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exhaustedPoolFails() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(2).withMaxLeased(1))
+                .build();
+
+        try (Lease<PooledParser> lease = repository.borrow(PooledParser.class)) {
+            repository.borrow(PooledParser.class);
+        }
+    }
+
+    @Test public void exhaustedPoolWaitsForReturnedBean() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(1).withMaxLeased(1)
+                        .withBorrowTimeout(Duration.ofSeconds(10)))
+                .build();
+
+        final Lease<PooledParser> lease = repository.borrow(PooledParser.class);
+        final PooledParser first = lease.get();
+
+        final AtomicReference<PooledParser> waiting = new AtomicReference<>();
+        final Thread other = new Thread(() -> {
+            try (Lease<PooledParser> otherLease = repository.borrow(PooledParser.class)) {
+                waiting.set(otherLease.get());
+            }
+        });
+        other.start();
+        other.join(100);
+        assertTrue(other.isAlive());
+
+        lease.close();
+        other.join();
+
+        assertSame(first, waiting.get());
+        assertEquals(1, repository.getPoolMetrics(PooledParser.class).getCreated());
+    }
+
+    @Test public void failedCreationReleasesLease() {
+
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("First creation fails");
+                    }
+                    return new PooledParser();
+                }, PoolSettings.ofSize(1).withMaxLeased(1))
+                .build();
+
+        try {
+            repository.borrow(PooledParser.class);
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("First creation fails", ex.getMessage());
+        }
+        repository.borrow(PooledParser.class).close();
+
+        final PoolMetrics metrics = repository.getPoolMetrics(PooledParser.class);
+        assertEquals(1, metrics.getBorrowed());
+        assertEquals(0, metrics.getLeased());
+    }
+
+    @Test public void postConstructOnlyForCreatedBeans() {
+
+        final AtomicInteger postConstructs = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(postConstructs)
+                .definition(BeanDefinition.create(Scope.POOLED, PostConstructedPooledBean.class,
+                        PostConstructedPooledBean::new, AtomicInteger.class))
+                .build();
+
+        repository.borrow(PostConstructedPooledBean.class).close();
+        repository.borrow(PostConstructedPooledBean.class).close();
+
+        assertEquals(1, postConstructs.get());
+    }
+
+    @Test public void getBeanCreatesNewBean() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new)
+                .build();
+
+        assertNotSame(repository.getBean(PooledParser.class), repository.getBean(PooledParser.class));
+        assertEquals(0, repository.getPoolMetrics(PooledParser.class).getBorrowed());
+    }
+
+    @Test public void closeTwiceReturnsOnce() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new)
+                .build();
+
+        final Lease<PooledParser> lease = repository.borrow(PooledParser.class);
+        lease.close();
+        lease.close();
+
+        assertEquals(1, repository.getPoolMetrics(PooledParser.class).getReturned());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noBeanAfterClose() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new)
+                .build();
+
+        final Lease<PooledParser> lease = repository.borrow(PooledParser.class);
+        lease.close();
+        lease.get();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void borrowOnlyPooledBeans() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .prototype(PooledParser.class, PooledParser::new)
+                .build();
+
+        repository.borrow(PooledParser.class);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void poolSettingsOnlyForPooledBeans() {
+        BeanDefinition.create(Scope.PROTOTYPE, PooledParser.class, PooledParser::new)
+                .withPoolSettings(PoolSettings.ofSize(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxIdleNotGreaterThanSize() {
+        PoolSettings.ofSize(2).withMaxIdle(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atLeastOneLeasedBean() {
+        PoolSettings.ofSize(2).withMaxLeased(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void borrowTimeoutNotNegative() {
+        PoolSettings.ofSize(2).withBorrowTimeout(Duration.ofMillis(-1));
+    }
+
+    @Test public void concurrentBorrowers() throws Exception {
+
+        final int threads = 8;
+        final int borrowsPerThread = 10_000;
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .pooled(PooledParser.class, PooledParser::new, PoolSettings.ofSize(4).withThreadAffinity(true))
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < borrowsPerThread; j++) {
+                        try (Lease<PooledParser> lease = repository.borrow(PooledParser.class)) {
+                            lease.get().use();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        final PoolMetrics metrics = repository.getPoolMetrics(PooledParser.class);
+        assertEquals(threads * borrowsPerThread, metrics.getBorrowed());
+        assertEquals(0, metrics.getLeased());
+        assertTrue(metrics.getIdle() <= 4);
+        assertEquals(metrics.getCreated(), metrics.getIdle() + metrics.getDiscarded());
+    }
+
+    private static List<Lease<PooledParser>> borrow(final BeanRepository repository, final int count) {
+        final List<Lease<PooledParser>> leases = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leases.add(repository.borrow(PooledParser.class));
+        }
+        return leases;
+    }
+
+    private static void returnAll(final List<Lease<PooledParser>> leases) {
+        for (Lease<PooledParser> lease : leases) {
+            lease.close();
+        }
+    }
+}
+
+class PooledParser {
+
+    private final AtomicBoolean inUse = new AtomicBoolean();
+
+    void use() {
+        assertFalse("Bean is used by two Threads", inUse.getAndSet(true));
+        inUse.set(false);
+    }
+}
+
+class PostConstructedPooledBean implements PostConstructible {
+
+    private final AtomicInteger postConstructs;
+
+    PostConstructedPooledBean(final AtomicInteger postConstructs) {
+        this.postConstructs = postConstructs;
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        postConstructs.incrementAndGet();
+    }
+}
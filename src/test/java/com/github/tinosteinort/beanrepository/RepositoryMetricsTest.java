@@ -0,0 +1,140 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RepositoryMetricsTest {
+
+    @Test public void getBeanCallsAreCountedPerClass() {
+
+        final CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(MeteredService.class, MeteredService::new)
+                .prototype(MeteredCommand.class, MeteredCommand::new)
+                .enableMetrics(metrics)
+                .build();
+
+        repository.getBean(MeteredService.class);
+        repository.getBean(MeteredService.class);
+        repository.getBean(MeteredCommand.class);
+
+        assertEquals(Long.valueOf(2), metrics.getBeanRequests().get(MeteredService.class));
+        assertEquals(Long.valueOf(1), metrics.getBeanRequests().get(MeteredCommand.class));
+    }
+
+    @Test public void prototypeCreationsAreCounted() {
+
+        final CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(MeteredService.class, MeteredService::new)
+                .prototype(MeteredCommand.class, MeteredCommand::new)
+                .enableMetrics(metrics)
+                .build();
+
+        repository.getBean(MeteredService.class);
+        repository.getBean(MeteredCommand.class);
+        repository.getBean(MeteredCommand.class);
+        repository.getPrototypeBean(MeteredCommand::new);
+
+        assertEquals(Collections.singletonMap(MeteredCommand.class, 3L), metrics.getPrototypeCreations());
+    }
+
+    @Test public void getBeansOfTypeCallsAreCountedOnce() {
+
+        final CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(MeteredService.class, MeteredService::new)
+                .enableMetrics(metrics)
+                .build();
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder(parent)
+                .singleton(MeteredCommand.class, MeteredCommand::new)
+                .build();
+
+        child.getBeansOfType(MeteredService.class);
+
+        assertSame(metrics, child.getMetrics());
+        assertEquals(Collections.singletonMap(MeteredService.class, 1L), metrics.getBeansOfTypeRequests());
+    }
+
+    @Test public void waitForSingletonInProgressIsMeasured() throws Exception {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(MeteredSlowService.class, () -> new MeteredSlowService(started, release))
+                .enableBackgroundSingletonInitialisation(Executors.newSingleThreadExecutor())
+                .enableMetrics(metrics)
+                .build();
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<MeteredSlowService> requested = CompletableFuture.supplyAsync(
+                () -> repository.getBean(MeteredSlowService.class));
+        StartupReportTest.sleep(20);
+        release.countDown();
+        requested.get(5, TimeUnit.SECONDS);
+
+        final CountingRepositoryMetrics.Histogram waits = metrics.getSingletonInitialisationWaits();
+        assertEquals(1, waits.getCount());
+        assertTrue(waits.getTotal().toNanos() > 0);
+        assertTrue(waits.getPercentile(100).compareTo(waits.getTotal()) >= 0);
+    }
+
+    @Test public void percentilesOfHistogram() {
+
+        final CountingRepositoryMetrics.Histogram histogram = new CountingRepositoryMetrics.Histogram();
+        assertEquals(Duration.ZERO, histogram.getPercentile(50));
+
+        histogram.record(0);
+        histogram.record(100);
+        histogram.record(1000);
+        histogram.record(1_000_000);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(Duration.ofNanos(1_001_100), histogram.getTotal());
+        assertEquals(Duration.ofNanos(1), histogram.getPercentile(25));
+        assertEquals(Duration.ofNanos(127), histogram.getPercentile(50));
+        assertEquals(Duration.ofNanos(1023), histogram.getPercentile(75));
+        assertEquals(Duration.ofNanos(1_048_575), histogram.getPercentile(100));
+    }
+
+    @Test public void noopIsDefault() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder().build();
+
+        assertSame(RepositoryMetrics.NOOP, repository.getMetrics());
+    }
+}
+
+class MeteredService {
+}
+
+class MeteredCommand {
+}
+
+class MeteredSlowService {
+
+    MeteredSlowService(final CountDownLatch started, final CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
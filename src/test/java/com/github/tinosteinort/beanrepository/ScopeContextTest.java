@@ -0,0 +1,185 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ScopeContextTest {
+
+    @Test public void sameInstanceWithinContext() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+
+        try (ScopeContext context = repository.createScopeContext().open()) {
+            assertSame(repository.getBean(ScopedMessage.class), repository.getBean(ScopedMessage.class));
+        }
+    }
+
+    @Test public void newInstanceForEveryUnitOfWork() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+
+        final ScopeContext context = repository.createScopeContext();
+        final ScopedMessage first;
+        try (ScopeContext unitOfWork = context.open()) {
+            first = repository.getBean(ScopedMessage.class);
+        }
+        try (ScopeContext unitOfWork = context.open()) {
+            assertNotSame(first, repository.getBean(ScopedMessage.class));
+        }
+    }
+
+    @Test public void beansAreClosedInReverseOrderOfCreation() {
+
+        final List<String> closed = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(closed)
+                .scoped(ScopedResource.class, beans -> new ScopedResource(beans.getBean(ArrayList.class), "resource"))
+                .scoped(ScopedConsumer.class, beans -> new ScopedConsumer(beans.getBean(ArrayList.class),
+                        beans.getBean(ScopedResource.class)))
+                .build();
+
+        try (ScopeContext context = repository.createScopeContext().open()) {
+            repository.getBean(ScopedConsumer.class);
+        }
+
+        assertEquals(Arrays.asList("consumer", "resource"), closed);
+    }
+
+    @Test public void allBeansAreClosedIfOneFails() {
+
+        final List<String> closed = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(closed)
+                .scoped(ScopedResource.class, beans -> new ScopedResource(beans.getBean(ArrayList.class), "resource"))
+                .scoped(ScopedMessage.class, ScopedFailingMessage::new)
+                .build();
+
+        final ScopeContext context = repository.createScopeContext().open();
+        repository.getBean(ScopedResource.class);
+        repository.getBean(ScopedMessage.class);
+        try {
+            context.close();
+            fail("RuntimeException expected");
+        }
+        catch (RuntimeException ex) {
+            assertEquals("failed", ex.getMessage());
+        }
+
+        assertEquals(Arrays.asList("resource"), closed);
+    }
+
+    @Test public void nestedContexts() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+
+        try (ScopeContext outer = repository.createScopeContext().open()) {
+            final ScopedMessage outerMessage = repository.getBean(ScopedMessage.class);
+            try (ScopeContext inner = repository.createScopeContext().open()) {
+                assertNotSame(outerMessage, repository.getBean(ScopedMessage.class));
+            }
+            assertSame(outerMessage, repository.getBean(ScopedMessage.class));
+        }
+    }
+
+    @Test public void contextOfChildContainsScopedBeansOfParent() {
+
+        final BeanRepository parent = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("child", parent)
+                .scoped(ScopedConsumer.class, beans -> new ScopedConsumer(new ArrayList<>(), null))
+                .build();
+
+        try (ScopeContext context = child.createScopeContext().open()) {
+            assertSame(child.getBean(ScopedMessage.class), parent.getBean(ScopedMessage.class));
+            assertSame(child.getBean(ScopedConsumer.class), child.getBean(ScopedConsumer.class));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noBeanWithoutOpenContext() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+
+        repository.getBean(ScopedMessage.class);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noBeanOfOtherRepository() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+        final BeanRepository other = new BeanRepository.BeanRepositoryBuilder()
+                .scoped(ScopedMessage.class, ScopedMessage::new)
+                .build();
+
+        try (ScopeContext context = other.createScopeContext().open()) {
+            repository.getBean(ScopedMessage.class);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void openOnlyOnce() {
+
+        final ScopeContext context = new BeanRepository.BeanRepositoryBuilder().build().createScopeContext();
+        context.open();
+        try {
+            context.open();
+        }
+        finally {
+            context.close();
+        }
+    }
+}
+
+class ScopedMessage {
+
+}
+
+class ScopedFailingMessage extends ScopedMessage implements AutoCloseable {
+
+    @Override public void close() {
+        throw new RuntimeException("failed");
+    }
+}
+
+class ScopedResource implements AutoCloseable {
+
+    private final List<String> closed;
+    private final String name;
+
+    ScopedResource(final List<String> closed, final String name) {
+        this.closed = closed;
+        this.name = name;
+    }
+
+    @Override public void close() {
+        closed.add(name);
+    }
+}
+
+class ScopedConsumer extends ScopedResource {
+
+    ScopedConsumer(final List<String> closed, final ScopedResource resource) {
+        super(closed, "consumer");
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SharedParentTablesTest {
+
+    @Test public void childWithInstancesSeesBeansOfParent() {
+
+        final BeanRepository parent = parent(new AtomicInteger());
+        final SharedRequestContext context = new SharedRequestContext();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(context)
+                .build();
+
+        assertSame(context, child.getBean(SharedRequestContext.class));
+        assertSame(parent.getBean(SharedService.class), child.getBean(SharedService.class));
+        assertSame(parent.getBean(SharedService.class), child.getBean(SharedAlias.class));
+    }
+
+    @Test public void childWithInstancesCreatesNoBean() {
+
+        final AtomicInteger creations = new AtomicInteger();
+        final BeanRepository parent = parent(creations);
+        final int creationsOfParent = creations.get();
+
+        new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(new SharedRequestContext())
+                .build();
+
+        assertEquals(creationsOfParent, creations.get());
+    }
+
+    @Test public void handlesOfChild() {
+
+        final BeanRepository parent = parent(new AtomicInteger());
+        final SharedRequestContext context = new SharedRequestContext();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(context)
+                .build();
+        final BeanRepository grandChild = new BeanRepository.BeanRepositoryBuilder("job", child)
+                .instance("job")
+                .build();
+
+        assertSame(context, child.handle(SharedRequestContext.class).get());
+        assertSame(parent.getBean(SharedService.class), child.handle(SharedService.class).get());
+        assertSame(context, grandChild.handle(SharedRequestContext.class).get());
+        assertSame(parent.getBean(SharedService.class), grandChild.handle(SharedAlias.class).get());
+        assertEquals("job", grandChild.handle(String.class).get());
+    }
+
+    @Test public void regularChildOfSharingChild() {
+
+        final BeanRepository parent = parent(new AtomicInteger());
+        final SharedRequestContext context = new SharedRequestContext();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(context)
+                .build();
+        final BeanRepository grandChild = new BeanRepository.BeanRepositoryBuilder("job", child)
+                .singleton(SharedJob.class, SharedJob::new, SharedRequestContext.class)
+                .build();
+
+        assertSame(context, grandChild.getBean(SharedJob.class).context);
+        assertSame(parent.getBean(SharedService.class), grandChild.getBean(SharedAlias.class));
+    }
+
+    @Test public void beansOfTypeOfChild() {
+
+        final BeanRepository parent = parent(new AtomicInteger());
+        final SharedRequestContext context = new SharedRequestContext();
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("request", parent)
+                .instance(context)
+                .build();
+
+        assertEquals(new HashSet<>(Arrays.<SharedMarker>asList(parent.getBean(SharedService.class), context)),
+                child.getBeansOfType(SharedMarker.class));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void unknownBeanInChild() {
+
+        final BeanRepository child = new BeanRepository.BeanRepositoryBuilder("request", parent(new AtomicInteger()))
+                .instance(new SharedRequestContext())
+                .build();
+
+        child.getBean(SharedJob.class);
+    }
+
+    private static BeanRepository parent(final AtomicInteger creations) {
+        return new BeanRepository.BeanRepositoryBuilder("application")
+                .singleton(SharedService.class, beans -> {
+                    creations.incrementAndGet();
+                    return new SharedService();
+                })
+                .alias(SharedAlias.class, SharedService.class)
+                .build();
+    }
+}
+
+interface SharedMarker {
+
+}
+
+interface SharedAlias {
+
+}
+
+class SharedService implements SharedAlias, SharedMarker {
+
+}
+
+class SharedRequestContext implements SharedMarker {
+
+}
+
+class SharedJob {
+
+    final SharedRequestContext context;
+
+    SharedJob(final SharedRequestContext context) {
+        this.context = context;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.tinosteinort.beanrepository;
+
+import com.github.tinosteinort.beanrepository.example._03_cyclicreferenceexample.Car;
+import com.github.tinosteinort.beanrepository.example._03_cyclicreferenceexample.CyclicReferenceExampleApp;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SinglePassBuildTest {
+
+    @Test public void everySingletonIsCreatedOnce() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true)
+                .singleton(SinglePassTop.class, beans -> new SinglePassTop(creations, beans.getBean(SinglePassBottom.class)))
+                .singleton(SinglePassBottom.class, beans -> new SinglePassBottom(creations))
+                .build();
+
+        assertEquals(2, creations.get());
+        assertSame(repository.getBean(SinglePassBottom.class), repository.getBean(SinglePassTop.class).bottom);
+        assertEquals(2, creations.get());
+    }
+
+    @Test public void eagerSingletonOfLazyRepositoryIsCreatedOnce() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true)
+                .enableLazySingletonBeans(true)
+                .singleton(SinglePassBottom.class, beans -> new SinglePassBottom(creations))
+                .eagerSingletons(SinglePassBottom.class)
+                .build();
+
+        assertEquals(1, creations.get());
+        assertNotNull(repository.getBean(SinglePassBottom.class));
+        assertEquals(1, creations.get());
+    }
+
+    @Test public void prototypeGetsCreatedSingleton() {
+
+        final AtomicInteger creations = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true)
+                .singleton(SinglePassBottom.class, beans -> new SinglePassBottom(creations))
+                .prototype(SinglePassTop.class, beans -> new SinglePassTop(creations, beans.getBean(SinglePassBottom.class)))
+                .build();
+
+        // The Prototype is still created in the dry run, but the Singleton is not
+        assertEquals(2, creations.get());
+        assertSame(repository.getBean(SinglePassBottom.class), repository.getBean(SinglePassTop.class).bottom);
+    }
+
+    @Test public void cyclicReferenceOfSingletons() {
+
+        try {
+            new BeanRepository.BeanRepositoryBuilder()
+                    .enableSinglePassBuild(true)
+                    .singleton(SinglePassCycleA.class, beans -> new SinglePassCycleA(beans.getBean(SinglePassCycleB.class)))
+                    .singleton(SinglePassCycleB.class, beans -> new SinglePassCycleB(beans.getBean(SinglePassCycleA.class)))
+                    .build();
+            fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("Cyclic Reference between Beans: "
+                    + SinglePassCycleA.class.getName() + " -> "
+                    + SinglePassCycleB.class.getName() + " -> "
+                    + SinglePassCycleA.class.getName(), ex.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cyclicReferenceOfPrototypes() {
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true)
+                .prototype(SinglePassCycleA.class, beans -> new SinglePassCycleA(beans.getBean(SinglePassCycleB.class)))
+                .prototype(SinglePassCycleB.class, beans -> new SinglePassCycleB(beans.getBean(SinglePassCycleA.class)))
+                .build();
+    }
+
+    @Test public void cycleByDelegateIsNoCycle() {
+
+        final BeanRepository.BeanRepositoryBuilder builder = new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true);
+        new CyclicReferenceExampleApp().configure(builder);
+        final BeanRepository repository = builder.build();
+
+        assertNotNull(repository.getBean(Car.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void notWithParallelSingletonInitialisation() {
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableSinglePassBuild(true)
+                .enableParallelSingletonInitialisation(Runnable::run, 1)
+                .build();
+    }
+}
+
+class SinglePassBottom {
+
+    SinglePassBottom(final AtomicInteger creations) {
+        creations.incrementAndGet();
+    }
+}
+
+class SinglePassTop {
+
+    final SinglePassBottom bottom;
+
+    SinglePassTop(final AtomicInteger creations, final SinglePassBottom bottom) {
+        creations.incrementAndGet();
+        this.bottom = bottom;
+    }
+}
+
+class SinglePassCycleA {
+
+    SinglePassCycleA(final Object other) {
+    }
+}
+
+class SinglePassCycleB {
+
+    SinglePassCycleB(final Object other) {
+    }
+}
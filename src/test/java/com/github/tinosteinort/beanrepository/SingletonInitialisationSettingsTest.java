@@ -0,0 +1,152 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+public class SingletonInitialisationSettingsTest {
+
+    @Test public void lazyBeanIsNotCreatedByBuild() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(InitEndpoint.class, () -> new InitEndpoint(created))
+                .singleton(InitAdminTool.class, () -> new InitAdminTool(created))
+                .lazySingletons(InitAdminTool.class)
+                .build();
+
+        assertEquals(Collections.singletonList("endpoint"), created);
+
+        repository.getBean(InitAdminTool.class);
+        assertEquals(Arrays.asList("endpoint", "admin"), created);
+    }
+
+    @Test public void eagerBeanIsCreatedByBuildOfLazyRepository() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .singleton(InitEndpoint.class, () -> new InitEndpoint(created))
+                .singleton(InitAdminTool.class, () -> new InitAdminTool(created))
+                .eagerSingletons(InitEndpoint.class)
+                .enableLazySingletonBeans(true)
+                .build();
+
+        assertEquals(Collections.singletonList("endpoint"), created);
+    }
+
+    @Test public void lazyBeanIsCreatedIfEagerBeanDependsOnIt() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(InitAdminTool.class, () -> new InitAdminTool(created))
+                .singleton(InitReport.class, InitReport::new, CopyOnWriteArrayList.class, InitAdminTool.class)
+                .lazySingletons(InitAdminTool.class)
+                .build();
+
+        assertEquals(Arrays.asList("admin", "report"), created);
+    }
+
+    @Test public void beansWithHigherPriorityAreCreatedFirst() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .instance(created)
+                .singleton(InitAdminTool.class, () -> new InitAdminTool(created))
+                .singleton(InitEndpoint.class, () -> new InitEndpoint(created))
+                .singleton(InitCache.class, () -> new InitCache(created))
+                .singleton(InitReport.class, InitReport::new, CopyOnWriteArrayList.class, InitAdminTool.class)
+                .singletonInitPriority(InitEndpoint.class, 10)
+                .singletonInitPriority(InitReport.class, 5)
+                .singletonInitPriority(InitCache.class, -1)
+                .build();
+
+        assertEquals(Arrays.asList("endpoint", "admin", "report", "cache"), created);
+    }
+
+    @Test public void prioritiesAreUsedByParallelInitialisation() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .singleton(InitAdminTool.class, () -> new InitAdminTool(created))
+                .singleton(InitEndpoint.class, () -> new InitEndpoint(created))
+                .singletonInitPriority(InitEndpoint.class, 1)
+                .enableParallelSingletonInitialisation(Runnable::run, 1)
+                .build();
+
+        assertEquals(Arrays.asList("endpoint", "admin"), created);
+    }
+
+    @Test public void settingsOfBeanDefinition() {
+
+        final List<String> created = new CopyOnWriteArrayList<>();
+
+        new BeanRepository.BeanRepositoryBuilder()
+                .definition(BeanDefinition.create(Scope.SINGLETON, InitAdminTool.class,
+                        () -> new InitAdminTool(created)).withLazyInitialisation(true))
+                .definition(BeanDefinition.create(Scope.SINGLETON, InitCache.class,
+                        () -> new InitCache(created)))
+                .definition(BeanDefinition.create(Scope.SINGLETON, InitEndpoint.class,
+                        () -> new InitEndpoint(created)).withInitPriority(1))
+                .build();
+
+        assertEquals(Arrays.asList("endpoint", "cache"), created);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void lazyInitialisationOnlyForSingletons() {
+        BeanDefinition.create(Scope.PROTOTYPE, InitCache.class, () -> new InitCache(new CopyOnWriteArrayList<>()))
+                .withLazyInitialisation(true);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void initPriorityOnlyForSingletons() {
+        BeanDefinition.create(Scope.PROTOTYPE, InitCache.class, () -> new InitCache(new CopyOnWriteArrayList<>()))
+                .withInitPriority(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onlyRegisteredSingletonsCanBeMarked() {
+        new BeanRepository.BeanRepositoryBuilder()
+                .prototype(InitCache.class, () -> new InitCache(new CopyOnWriteArrayList<>()))
+                .lazySingletons(InitCache.class);
+    }
+}
+
+class InitEndpoint {
+
+    InitEndpoint(final List<String> created) {
+        created.add("endpoint");
+    }
+}
+
+class InitAdminTool {
+
+    InitAdminTool(final List<String> created) {
+        created.add("admin");
+    }
+}
+
+class InitCache {
+
+    InitCache(final List<String> created) {
+        created.add("cache");
+    }
+}
+
+class InitReport {
+
+    InitReport(final List<String> created, final InitAdminTool adminTool) {
+        created.add("report");
+    }
+}
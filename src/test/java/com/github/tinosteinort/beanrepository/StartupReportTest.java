@@ -0,0 +1,176 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class StartupReportTest {
+
+    @Test public void noReportWithoutEnabling() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                .build();
+
+        assertFalse(repository.getStartupReport().isPresent());
+    }
+
+    @Test public void timesOfAllPhasesAreRecorded() {
+
+        final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                .singleton(ProfiledCache.class, repository -> new ProfiledCache())
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get();
+
+        final StartupReport.BeanTiming timing = timingOf(report, ProfiledDatabase.class);
+        assertTrue(timing.getWallTime(StartupReport.Phase.INITIALISATION).toMillis() >= 40);
+        assertTrue(timing.getWallTime(StartupReport.Phase.POST_CONSTRUCT).toMillis() >= 20);
+        assertNotNull(timingOf(report, ProfiledCache.class).getThread(StartupReport.Phase.DRY_RUN));
+        assertEquals(Thread.currentThread().getName(), timing.getThread(StartupReport.Phase.INITIALISATION));
+        assertTrue(report.getBuildTime().compareTo(timing.getTotalWallTime()) >= 0);
+    }
+
+    @Test public void timeOfDependenciesIsNotIncluded() {
+
+        final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                .singleton(ProfiledService.class, ProfiledService::new, ProfiledDatabase.class)
+                .singletonInitPriority(ProfiledService.class, 1)
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get();
+
+        final StartupReport.BeanTiming timing = timingOf(report, ProfiledService.class);
+        assertTrue(timing.getWallTime(StartupReport.Phase.INITIALISATION).toMillis() < 40);
+    }
+
+    @Test public void slowestBeansAreReportedFirst() {
+
+        final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledService.class, ProfiledService::new, ProfiledDatabase.class)
+                .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get();
+
+        final List<StartupReport.BeanTiming> slowest = report.getSlowestBeans(1);
+        assertEquals(1, slowest.size());
+        assertEquals(ProfiledDatabase.class, slowest.get(0).getBeanClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countOfSlowestBeansMustNotBeNegative() {
+        new BeanRepository.BeanRepositoryBuilder()
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get()
+                .getSlowestBeans(-1);
+    }
+
+    @Test public void timesArePrintedIndependentOfLocale() {
+
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                    .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                    .enableStartupReport(true)
+                    .build()
+                    .getStartupReport().get();
+
+            assertTrue(timingOf(report, ProfiledDatabase.class).toString().matches(".*: \\d+\\.\\d{3} ms, .*"));
+        }
+        finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test public void criticalPathStartsWithDependency() {
+
+        final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledDatabase.class, ProfiledDatabase::new)
+                .singleton(ProfiledService.class, ProfiledService::new, ProfiledDatabase.class)
+                .singleton(ProfiledCache.class, ProfiledCache::new)
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get();
+
+        assertEquals(Arrays.asList(ProfiledDatabase.class, ProfiledService.class), report.getCriticalPath());
+        assertTrue(report.getCriticalPathTime().compareTo(Duration.ofMillis(60)) >= 0);
+    }
+
+    @Test public void threadOfParallelInitialisationIsRecorded() {
+
+        final StartupReport report = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ProfiledCache.class, ProfiledCache::new)
+                .enableParallelSingletonInitialisation(Executors.newSingleThreadExecutor(
+                        task -> new Thread(task, "profiled-initialiser")), 1)
+                .enableStartupReport(true)
+                .build()
+                .getStartupReport().get();
+
+        assertEquals("profiled-initialiser",
+                timingOf(report, ProfiledCache.class).getThread(StartupReport.Phase.INITIALISATION));
+    }
+
+    @Test public void beansCreatedAfterBuildAreNotRecorded() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .enableLazySingletonBeans(true)
+                .singleton(ProfiledCache.class, ProfiledCache::new)
+                .enableStartupReport(true)
+                .build();
+
+        repository.getBean(ProfiledCache.class);
+
+        final StartupReport report = repository.getStartupReport().get();
+        assertTrue(report.getBeanTimings().stream().noneMatch(timing -> timing.getBeanClass() == ProfiledCache.class));
+    }
+
+    private static StartupReport.BeanTiming timingOf(final StartupReport report, final Class<?> beanClass) {
+        return report.getBeanTimings().stream()
+                .filter(timing -> timing.getBeanClass() == beanClass)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No timing of " + beanClass.getName()));
+    }
+
+    static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+class ProfiledDatabase implements PostConstructible {
+
+    ProfiledDatabase() {
+        StartupReportTest.sleep(40);
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        StartupReportTest.sleep(20);
+    }
+}
+
+class ProfiledService {
+
+    ProfiledService(final ProfiledDatabase database) {
+    }
+}
+
+class ProfiledCache {
+}
@@ -0,0 +1,226 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StripedScopeTest {
+
+    @Test public void sameStripeWithinThread() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, StripedCounter::new, 4)
+                .build();
+
+        assertSame(repository.getBean(StripedCounter.class), repository.getBean(StripedCounter.class));
+    }
+
+    @Test public void threadsAreSpreadOverStripes() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, StripedCounter::new, 2)
+                .build();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> repository.getBean(StripedCounter.class).increment()));
+        }
+        // Thread Ids are assigned consecutively, so two new Threads are assigned to different Stripes
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        final List<StripedCounter> stripes = repository.getStripes(StripedCounter.class);
+        assertEquals(2, stripes.size());
+        assertNotSame(stripes.get(0), stripes.get(1));
+        assertEquals(1, stripes.get(0).value());
+        assertEquals(1, stripes.get(1).value());
+    }
+
+    @Test public void stripesAreMerged() throws Exception {
+
+        final int threadCount = 8;
+        final int increments = 10_000;
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, StripedCounter::new, 3)
+                .build();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < increments; j++) {
+                    repository.getBean(StripedCounter.class).increment();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        final List<StripedCounter> stripes = repository.getStripes(StripedCounter.class);
+        assertTrue(stripes.size() <= 3);
+        long sum = 0;
+        for (StripedCounter stripe : stripes) {
+            sum += stripe.value();
+        }
+        assertEquals(threadCount * increments, sum);
+    }
+
+    @Test public void stripesAreCreatedConcurrently() throws Exception {
+
+        final CountDownLatch bothCreating = new CountDownLatch(2);
+        final AtomicInteger timeouts = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, () -> {
+                    bothCreating.countDown();
+                    if (!awaitQuietly(bothCreating)) {
+                        timeouts.incrementAndGet();
+                    }
+                    return new StripedCounter();
+                }, 2)
+                .build();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> repository.getBean(StripedCounter.class)));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, timeouts.get());
+        assertEquals(2, repository.getStripes(StripedCounter.class).size());
+    }
+
+    @Test public void concurrentCreationOfSameStripeInstallsOneInstance() throws Exception {
+
+        final CountDownLatch bothCreating = new CountDownLatch(2);
+        final List<StripedCounter> created = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, () -> {
+                    bothCreating.countDown();
+                    awaitQuietly(bothCreating);
+                    final StripedCounter counter = new StripedCounter();
+                    synchronized (created) {
+                        created.add(counter);
+                    }
+                    return counter;
+                }, 1)
+                .build();
+
+        final List<StripedCounter> received = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> {
+                final StripedCounter counter = repository.getBean(StripedCounter.class);
+                synchronized (received) {
+                    received.add(counter);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(2, created.size());
+        assertSame(received.get(0), received.get(1));
+        assertSame(received.get(0), repository.getStripes(StripedCounter.class).get(0));
+    }
+
+    @Test public void noStripesBeforeRequest() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .striped(StripedCounter.class, StripedCounter::new)
+                .build();
+
+        assertTrue(repository.getStripes(StripedCounter.class).isEmpty());
+    }
+
+    @Test public void stripeWithDependency() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(StripedCounter.class, StripedCounter::new)
+                .definition(BeanDefinition.create(Scope.STRIPED, StripedTracker.class, StripedTracker::new,
+                        StripedCounter.class).withStripes(2))
+                .build();
+
+        final AtomicReference<StripedTracker> otherStripe = new AtomicReference<>();
+        final Thread other = new Thread(() -> otherStripe.set(repository.getBean(StripedTracker.class)));
+        other.start();
+        other.join();
+
+        assertSame(repository.getBean(StripedCounter.class), otherStripe.get().counter);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void stripesOnlyOfStripedBeans() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(StripedCounter.class, StripedCounter::new)
+                .build();
+
+        repository.getStripes(StripedCounter.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atLeastOneStripe() {
+        BeanDefinition.create(Scope.STRIPED, StripedCounter.class, StripedCounter::new).withStripes(0);
+    }
+
+    private static boolean awaitQuietly(final CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
+
+class StripedCounter {
+
+    private final AtomicInteger value = new AtomicInteger();
+
+    void increment() {
+        value.incrementAndGet();
+    }
+
+    int value() {
+        return value.get();
+    }
+}
+
+class StripedTracker {
+
+    final StripedCounter counter;
+
+    StripedTracker(final StripedCounter counter) {
+        this.counter = counter;
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.tinosteinort.beanrepository;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ThreadScopeTest {
+
+    @Test public void sameInstanceWithinThread() {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .threadScoped(ThreadScopedFormatter.class, ThreadScopedFormatter::new)
+                .build();
+
+        assertSame(repository.getBean(ThreadScopedFormatter.class), repository.getBean(ThreadScopedFormatter.class));
+    }
+
+    @Test public void otherInstanceInOtherThread() throws Exception {
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .threadScoped(ThreadScopedFormatter.class, ThreadScopedFormatter::new)
+                .build();
+
+        final AtomicReference<ThreadScopedFormatter> otherInstance = new AtomicReference<>();
+        final Thread other = new Thread(() -> otherInstance.set(repository.getBean(ThreadScopedFormatter.class)));
+        other.start();
+        other.join();
+
+        assertNotNull(otherInstance.get());
+        assertNotSame(otherInstance.get(), repository.getBean(ThreadScopedFormatter.class));
+    }
+
+    @Test public void endThreadScopeReleasesInstance() {
+
+        final List<ThreadScopedFormatter> released = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .threadScoped(ThreadScopedFormatter.class, ThreadScopedFormatter::new, released::add)
+                .build();
+
+        final ThreadScopedFormatter first = repository.getBean(ThreadScopedFormatter.class);
+        repository.endThreadScope();
+        repository.endThreadScope();
+
+        assertEquals(1, released.size());
+        assertSame(first, released.get(0));
+        assertNotSame(first, repository.getBean(ThreadScopedFormatter.class));
+    }
+
+    @Test public void instanceOfTerminatedThreadIsReleased() throws Exception {
+
+        final List<ThreadScopedFormatter> released = new ArrayList<>();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .threadScoped(ThreadScopedFormatter.class, ThreadScopedFormatter::new, released::add)
+                .build();
+
+        final AtomicReference<ThreadScopedFormatter> otherInstance = new AtomicReference<>();
+        final Thread other = new Thread(() -> otherInstance.set(repository.getBean(ThreadScopedFormatter.class)));
+        other.start();
+        other.join();
+
+        final ThreadScopedFormatter own = repository.getBean(ThreadScopedFormatter.class);
+        repository.releaseTerminatedThreads();
+
+        assertEquals(1, released.size());
+        assertSame(otherInstance.get(), released.get(0));
+        assertSame(own, repository.getBean(ThreadScopedFormatter.class));
+    }
+
+    @Test public void instanceOfCollectedThreadIsReleasedOnNextCreation() throws Exception {
+
+        final List<ThreadScopedFormatter> released = Collections.synchronizedList(new ArrayList<>());
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .threadScoped(ThreadScopedFormatter.class, ThreadScopedFormatter::new, released::add)
+                .build();
+
+        final AtomicReference<ThreadScopedFormatter> firstInstance = new AtomicReference<>();
+        runInNewThread(() -> firstInstance.set(repository.getBean(ThreadScopedFormatter.class)));
+
+        for (int i = 0; i < 100 && released.isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(10);
+            runInNewThread(() -> repository.getBean(ThreadScopedFormatter.class));
+        }
+
+        assertSame(firstInstance.get(), released.get(0));
+    }
+
+    @Test public void postConstructOncePerThread() {
+
+        final AtomicInteger postConstructs = new AtomicInteger();
+
+        final BeanRepository repository = new BeanRepository.BeanRepositoryBuilder()
+                .instance(postConstructs)
+                .definition(BeanDefinition.create(Scope.THREAD, PostConstructedThreadBean.class,
+                        PostConstructedThreadBean::new, AtomicInteger.class))
+                .build();
+
+        repository.getBean(PostConstructedThreadBean.class);
+        repository.getBean(PostConstructedThreadBean.class);
+
+        assertEquals(1, postConstructs.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cleanupOnlyForThreadScope() {
+        BeanDefinition.create(Scope.SINGLETON, ThreadScopedFormatter.class, ThreadScopedFormatter::new)
+                .withThreadCleanup(formatter -> { });
+    }
+
+    /**
+     * Does not keep a Reference to the Thread, so the Thread can be garbage collected after it is terminated.
+     */
+    private static void runInNewThread(final Runnable task) throws InterruptedException {
+        final Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+    }
+}
+
+class ThreadScopedFormatter {
+
+}
+
+class PostConstructedThreadBean implements PostConstructible {
+
+    private final AtomicInteger postConstructs;
+
+    PostConstructedThreadBean(final AtomicInteger postConstructs) {
+        this.postConstructs = postConstructs;
+    }
+
+    @Override public void onPostConstruct(final BeanRepository repository) {
+        postConstructs.incrementAndGet();
+    }
+}
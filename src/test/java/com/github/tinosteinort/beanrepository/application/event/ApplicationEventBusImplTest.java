@@ -1,12 +1,18 @@
 package com.github.tinosteinort.beanrepository.application.event;
 
 import com.github.tinosteinort.beanrepository.BeanRepository;
+import com.github.tinosteinort.beanrepository.CountingRepositoryMetrics;
+import com.github.tinosteinort.beanrepository.FlightRecording;
 import com.github.tinosteinort.beanrepository.HitCounter;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.Collections;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 public class ApplicationEventBusImplTest {
 
@@ -45,4 +51,41 @@ public class ApplicationEventBusImplTest {
         assertTrue(counter.hasHit("TestEventListener - TestEvent occurred"));
         assertTrue(counter.hasHit("OtherTestEventListener - TestEvent occurred"));
     }
-}
\ No newline at end of file
+
+    @Test public void deliveryToListenerIsRecorded() throws Exception {
+        assumeTrue(FlightRecording.isAvailable());
+
+        HitCounter counter = new HitCounter();
+
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder("events")
+                .singleton(ApplicationEventBusImpl.class, ApplicationEventBusImpl::new)
+                .singleton(TestEventListener.class, () -> new TestEventListener(counter))
+                .enableFlightRecorderEvents(Duration.ofSeconds(1))
+                .build();
+
+        FlightRecording recording = new FlightRecording("EventDelivery");
+        repo.getBean(ApplicationEventBusImpl.class).fireEvent(new TestEvent());
+
+        assertEquals(1, counter.hits());
+        assertEquals(Collections.singletonList(TestEventListener.class.getName() + " null events "
+                + TestEvent.class.getName()), recording.stop("EventDelivery"));
+    }
+
+    @Test public void publishedAndDeliveredEventsAreCounted() {
+
+        HitCounter counter = new HitCounter();
+        CountingRepositoryMetrics metrics = new CountingRepositoryMetrics();
+
+        BeanRepository repo = new BeanRepository.BeanRepositoryBuilder()
+                .singleton(ApplicationEventBusImpl.class, ApplicationEventBusImpl::new)
+                .singleton(TestEventListener.class, () -> new TestEventListener(counter))
+                .singleton(OtherTestEventListener.class, () -> new OtherTestEventListener(counter))
+                .enableMetrics(metrics)
+                .build();
+
+        repo.getBean(ApplicationEventBusImpl.class).fireEvent(new TestEvent());
+
+        assertEquals(Collections.singletonMap(TestEvent.class, 1L), metrics.getPublishedEvents());
+        assertEquals(Collections.singletonMap(TestEvent.class, 2L), metrics.getDeliveredEvents());
+    }
+}
@@ -48,12 +48,27 @@ public class ApplicationEventListenersTest {
         assertEquals(Collections.emptyList(), result);
     }
 
-    @Test public void emptyListIfNoClassIsNull() {
+    @Test(expected = IllegalArgumentException.class)
+    public void listenerWithoutEventClassIsRejected() {
+        listeners.register(new AbstractApplicationEventListener<TestEvent>(null) {
+            @Override public void onEvent(final TestEvent event) {
+            }
+        });
+    }
 
-        List<ApplicationEventListener<? extends ApplicationEvent>> result = listeners.listenersFor(null);
+    @Test public void listenersRegisteredWhileIteratingAreNotVisitedByTheIteration() {
 
-        assertNotNull(result);
-        assertEquals(Collections.emptyList(), result);
+        TestEventListener listener1 = new TestEventListener();
+        listeners.register(listener1);
+
+        int visited = 0;
+        for (ApplicationEventListener<? extends ApplicationEvent> listener : listeners.listenersFor(TestEvent.class)) {
+            listeners.register(new TestEventListener());
+            visited++;
+        }
+
+        assertEquals(1, visited);
+        assertEquals(2, listeners.listenersFor(TestEvent.class).size());
     }
 }
 